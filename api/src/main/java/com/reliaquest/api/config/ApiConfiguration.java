@@ -1,14 +1,70 @@
 package com.reliaquest.api.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 @Configuration
 public class ApiConfiguration {
 
+    /**
+     * Pooled client for the mock API: connections are kept alive and reused, every phase of a call is bounded by a
+     * timeout, and responses are requested gzip-compressed (the mock server enables {@code server.compression}).
+     */
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient upstreamHttpClient(
+            @Value("${http.client.max-connections:50}") int maxConnections,
+            @Value("${http.client.max-connections-per-route:20}") int maxConnectionsPerRoute,
+            @Value("${http.client.connect-timeout-ms:1000}") long connectTimeoutMs,
+            @Value("${http.client.read-timeout-ms:5000}") long readTimeoutMs,
+            @Value("${http.client.pool-acquire-timeout-ms:1000}") long poolAcquireTimeoutMs,
+            @Value("${http.client.keep-alive-ms:30000}") long keepAliveMs,
+            @Value("${http.client.idle-eviction-ms:60000}") long idleEvictionMs,
+            @Value("${http.client.compression:true}") boolean compression) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(connectTimeoutMs, TimeUnit.MILLISECONDS)
+                        .setSocketTimeout((int) readTimeoutMs, TimeUnit.MILLISECONDS)
+                        .setValidateAfterInactivity(keepAliveMs, TimeUnit.MILLISECONDS)
+                        .build())
+                .build();
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(poolAcquireTimeoutMs, TimeUnit.MILLISECONDS)
+                .setResponseTimeout(readTimeoutMs, TimeUnit.MILLISECONDS)
+                .setDefaultKeepAlive(keepAliveMs, TimeUnit.MILLISECONDS)
+                .build();
+
+        HttpClientBuilder builder = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(idleEvictionMs));
+        // Content compression (Accept-Encoding: gzip plus transparent decoding) is on by default in HttpClient 5
+        if (!compression) {
+            builder.disableContentCompression();
+        }
+        return builder.build();
+    }
+
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(CloseableHttpClient upstreamHttpClient, MeterRegistry meterRegistry) {
+        RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(upstreamHttpClient));
+        restTemplate.getInterceptors().add(new UpstreamMetricsInterceptor(meterRegistry));
+        return restTemplate;
     }
 }
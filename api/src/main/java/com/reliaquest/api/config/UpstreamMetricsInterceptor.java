@@ -0,0 +1,169 @@
+package com.reliaquest.api.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Splits the time of each request to the mock API into the wait for the response headers and the time spent
+ * reading the body, which includes parsing it since the body is consumed by the JSON reader as it arrives:
+ *
+ * <ul>
+ *   <li>{@code upstream.http.requests}: request sent until response headers received, tagged {@code status}
+ *   <li>{@code upstream.http.response.read}: response headers until the body was closed
+ *   <li>{@code upstream.http.response.size}: bytes of body read, after gzip decoding
+ * </ul>
+ *
+ * <p>All are tagged with {@code method} and {@code uri}, the request path with ids replaced by {@code {id}}.
+ */
+public class UpstreamMetricsInterceptor implements ClientHttpRequestInterceptor {
+
+    private static final Pattern UUID_SEGMENT =
+            Pattern.compile("/[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}(?=/|$)");
+
+    private final Meter.MeterProvider<Timer> requestTimer;
+    private final Meter.MeterProvider<Timer> readTimer;
+    private final Meter.MeterProvider<DistributionSummary> sizeSummary;
+
+    public UpstreamMetricsInterceptor(MeterRegistry meterRegistry) {
+        this.requestTimer = Timer.builder("upstream.http.requests")
+                .description("Mock API requests, until the response headers arrived")
+                .withRegistry(meterRegistry);
+        this.readTimer = Timer.builder("upstream.http.response.read")
+                .description("Reading and parsing mock API response bodies")
+                .withRegistry(meterRegistry);
+        this.sizeSummary = DistributionSummary.builder("upstream.http.response.size")
+                .description("Mock API response body sizes")
+                .baseUnit("bytes")
+                .withRegistry(meterRegistry);
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        String method = request.getMethod().name();
+        String uri = UUID_SEGMENT.matcher(request.getURI().getPath()).replaceAll("/{id}");
+        long startedAt = System.nanoTime();
+        ClientHttpResponse response;
+        try {
+            response = execution.execute(request, body);
+        } catch (IOException e) {
+            requestTimer
+                    .withTags("method", method, "uri", uri, "status", "IO_ERROR")
+                    .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+        long headersAt = System.nanoTime();
+        requestTimer
+                .withTags(
+                        "method",
+                        method,
+                        "uri",
+                        uri,
+                        "status",
+                        String.valueOf(response.getStatusCode().value()))
+                .record(headersAt - startedAt, TimeUnit.NANOSECONDS);
+        return new MeteredResponse(response, headersAt, method, uri);
+    }
+
+    /**
+     * Counts body bytes as they are read and records the read once the response is closed.
+     */
+    private final class MeteredResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+        private final long headersAt;
+        private final String method;
+        private final String uri;
+        private CountingInputStream body;
+        private boolean closed;
+
+        MeteredResponse(ClientHttpResponse delegate, long headersAt, String method, String uri) {
+            this.delegate = delegate;
+            this.headersAt = headersAt;
+            this.method = method;
+            this.uri = uri;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            if (body == null) {
+                body = new CountingInputStream(delegate.getBody());
+            }
+            return body;
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                readTimer
+                        .withTags("method", method, "uri", uri)
+                        .record(System.nanoTime() - headersAt, TimeUnit.NANOSECONDS);
+                sizeSummary.withTags("method", method, "uri", uri).record(body != null ? body.count : 0);
+            }
+            delegate.close();
+        }
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+    }
+}
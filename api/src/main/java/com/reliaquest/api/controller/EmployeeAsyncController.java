@@ -0,0 +1,117 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.model.CreateEmployeeInput;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeePage;
+import com.reliaquest.api.service.EmployeeService;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Same endpoints as {@link EmployeeController}, served asynchronously: each handler returns a {@link
+ * CompletableFuture}, so the servlet thread goes back to the pool while upstream retries and rate-limit waits are
+ * pending on a timer.
+ */
+@RestController
+@RequestMapping("/api/v1/async/employee")
+public class EmployeeAsyncController {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeAsyncController.class);
+
+    private final EmployeeService employeeService;
+
+    @Autowired
+    public EmployeeAsyncController(EmployeeService employeeService) {
+        this.employeeService = employeeService;
+    }
+
+    @GetMapping
+    public CompletableFuture<ResponseEntity<List<Employee>>> getAllEmployees() {
+        return employeeService.getAllEmployeesAsync().handle((employees, error) -> respond(employees, error));
+    }
+
+    @GetMapping("/page")
+    public CompletableFuture<ResponseEntity<EmployeePage>> getEmployeePage(
+            @RequestParam(required = false) String cursor, @RequestParam(defaultValue = "100") int limit) {
+        if (limit <= 0 || limit > EmployeeController.MAX_PAGE_SIZE) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
+        }
+        try {
+            return employeeService.getEmployeePageAsync(cursor, limit).handle((page, error) -> respond(page, error));
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
+        }
+    }
+
+    @GetMapping("/search")
+    public CompletableFuture<ResponseEntity<List<Employee>>> getEmployeesByNameSearch(
+            @RequestParam String searchString) {
+        if (searchString == null || searchString.trim().isEmpty()) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
+        }
+        return employeeService
+                .getEmployeesByNameSearchAsync(searchString.trim())
+                .handle((employees, error) -> respond(employees, error));
+    }
+
+    @GetMapping("/{id}")
+    public CompletableFuture<ResponseEntity<Employee>> getEmployeeById(@PathVariable String id) {
+        if (id == null || id.trim().isEmpty()) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
+        }
+        return employeeService.getEmployeeByIdAsync(id.trim()).handle((employee, error) -> {
+            if (error == null && employee == null) {
+                return ResponseEntity.notFound().build();
+            }
+            return respond(employee, error);
+        });
+    }
+
+    @GetMapping("/highest-salary")
+    public CompletableFuture<ResponseEntity<Integer>> getHighestSalaryOfEmployees() {
+        return employeeService.getHighestSalaryOfEmployeesAsync().handle((salary, error) -> respond(salary, error));
+    }
+
+    @GetMapping("/top-ten")
+    public CompletableFuture<ResponseEntity<List<String>>> getTopTenHighestEarningEmployeeNames() {
+        return employeeService
+                .getTopTenHighestEarningEmployeeNamesAsync()
+                .handle((names, error) -> respond(names, error));
+    }
+
+    @PostMapping
+    public CompletableFuture<ResponseEntity<Employee>> createEmployee(@RequestBody CreateEmployeeInput employeeInput) {
+        if (CreateEmployeeInput.invalidReason(employeeInput) != null) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
+        }
+        return employeeService.createEmployeeAsync(employeeInput).handle((employee, error) -> respond(employee, error));
+    }
+
+    @DeleteMapping("/{id}")
+    public CompletableFuture<ResponseEntity<String>> deleteEmployeeById(@PathVariable String id) {
+        if (id == null || id.trim().isEmpty()) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
+        }
+        return employeeService.deleteEmployeeByIdAsync(id.trim()).handle((result, error) -> respond(result, error));
+    }
+
+    private static <T> ResponseEntity<T> respond(T body, Throwable error) {
+        if (error != null) {
+            log.error("Async employee request failed", error);
+            return ResponseEntity.internalServerError().build();
+        }
+        return ResponseEntity.ok(body);
+    }
+}
@@ -1,10 +1,24 @@
 package com.reliaquest.api.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.reliaquest.api.model.CreateEmployeeInput;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeBatchResult;
+import com.reliaquest.api.model.EmployeePage;
 import com.reliaquest.api.service.EmployeeService;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -14,16 +28,26 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/v1/employee")
 public class EmployeeController implements IEmployeeController<Employee, CreateEmployeeInput> {
 
+    private static final Logger log = LoggerFactory.getLogger(EmployeeController.class);
+
+    static final int MAX_PAGE_SIZE = 1000;
+
+    // The mock API's own cap on a batch request; larger batches are rejected rather than fanned out
+    static final int MAX_BATCH_SIZE = 1000;
+
     private final EmployeeService employeeService;
+    private final ObjectMapper objectMapper;
 
     @Autowired
-    public EmployeeController(EmployeeService employeeService) {
+    public EmployeeController(EmployeeService employeeService, ObjectMapper objectMapper) {
         this.employeeService = employeeService;
+        this.objectMapper = objectMapper;
     }
 
     @Override
@@ -33,7 +57,47 @@ public class EmployeeController implements IEmployeeController<Employee, CreateE
             List<Employee> employees = employeeService.getAllEmployees();
             return ResponseEntity.ok(employees);
         } catch (Exception e) {
-            // Log the error (you can add proper logging here)
+            log.error("Failed to get all employees", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * One page of the roster, ordered by id. Clients follow {@code next_cursor} until it is absent.
+     */
+    @GetMapping("/page")
+    public ResponseEntity<EmployeePage> getEmployeePage(
+            @RequestParam(required = false) String cursor, @RequestParam(defaultValue = "100") int limit) {
+        try {
+            if (limit <= 0 || limit > MAX_PAGE_SIZE) {
+                return ResponseEntity.badRequest().build();
+            }
+
+            EmployeePage page = employeeService.getEmployeePage(cursor, limit);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            // Not a cursor we issued
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Failed to get employee page", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * The whole roster as newline-delimited JSON. Employees are serialized one at a time straight to the response
+     * rather than rendered into one array first, so the body is never held in memory and the first bytes go out
+     * as soon as the response buffer fills.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllEmployees() {
+        try {
+            List<Employee> employees = employeeService.getAllEmployees();
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_NDJSON)
+                    .body(out -> writeNdjson(employees, out));
+        } catch (Exception e) {
+            log.error("Failed to stream employees", e);
             return ResponseEntity.internalServerError().build();
         }
     }
@@ -49,7 +113,7 @@ public class EmployeeController implements IEmployeeController<Employee, CreateE
             List<Employee> employees = employeeService.getEmployeesByNameSearch(searchString.trim());
             return ResponseEntity.ok(employees);
         } catch (Exception e) {
-            // Log the error (you can add proper logging here)
+            log.error("Failed to search employees by name '{}'", searchString, e);
             return ResponseEntity.internalServerError().build();
         }
     }
@@ -70,7 +134,7 @@ public class EmployeeController implements IEmployeeController<Employee, CreateE
 
             return ResponseEntity.ok(employee);
         } catch (Exception e) {
-            // Log the error (you can add proper logging here)
+            log.error("Failed to get employee {}", id, e);
             return ResponseEntity.internalServerError().build();
         }
     }
@@ -82,7 +146,7 @@ public class EmployeeController implements IEmployeeController<Employee, CreateE
             Integer highestSalary = employeeService.getHighestSalaryOfEmployees();
             return ResponseEntity.ok(highestSalary);
         } catch (Exception e) {
-            // Log the error (you can add proper logging here)
+            log.error("Failed to get highest salary", e);
             return ResponseEntity.internalServerError().build();
         }
     }
@@ -94,7 +158,7 @@ public class EmployeeController implements IEmployeeController<Employee, CreateE
             List<String> topTenNames = employeeService.getTopTenHighestEarningEmployeeNames();
             return ResponseEntity.ok(topTenNames);
         } catch (Exception e) {
-            // Log the error (you can add proper logging here)
+            log.error("Failed to get top ten highest earning employee names", e);
             return ResponseEntity.internalServerError().build();
         }
     }
@@ -108,21 +172,7 @@ public class EmployeeController implements IEmployeeController<Employee, CreateE
                 return ResponseEntity.badRequest().build();
             }
 
-            if (employeeInput.getName() == null
-                    || employeeInput.getName().trim().isEmpty()) {
-                return ResponseEntity.badRequest().build();
-            }
-
-            if (employeeInput.getSalary() == null || employeeInput.getSalary() <= 0) {
-                return ResponseEntity.badRequest().build();
-            }
-
-            if (employeeInput.getAge() == null || employeeInput.getAge() <= 0) {
-                return ResponseEntity.badRequest().build();
-            }
-
-            if (employeeInput.getTitle() == null
-                    || employeeInput.getTitle().trim().isEmpty()) {
+            if (CreateEmployeeInput.invalidReason(employeeInput) != null) {
                 return ResponseEntity.badRequest().build();
             }
 
@@ -131,7 +181,7 @@ public class EmployeeController implements IEmployeeController<Employee, CreateE
             return ResponseEntity.ok(createdEmployee);
 
         } catch (Exception e) {
-            // Log the error (you can add proper logging here)
+            log.error("Failed to create employee {}", employeeInput.getName(), e);
             return ResponseEntity.internalServerError().build();
         }
     }
@@ -150,8 +200,112 @@ public class EmployeeController implements IEmployeeController<Employee, CreateE
             return ResponseEntity.ok(result);
 
         } catch (Exception e) {
-            // Log the error (you can add proper logging here)
+            log.error("Failed to delete employee {}", id, e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * Creates many employees in one call. Each input is validated like a single create; invalid ones are reported
+     * without being sent, and the rest are created in batches. One result per input, in input order.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<EmployeeBatchResult>> createEmployees(
+            @RequestBody List<CreateEmployeeInput> employeeInputs) {
+        if (employeeInputs == null || employeeInputs.isEmpty() || employeeInputs.size() > MAX_BATCH_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        try {
+            EmployeeBatchResult[] results = new EmployeeBatchResult[employeeInputs.size()];
+            List<CreateEmployeeInput> valid = new ArrayList<>(employeeInputs.size());
+            List<Integer> validIndexes = new ArrayList<>(employeeInputs.size());
+            for (int i = 0; i < employeeInputs.size(); i++) {
+                String reason = CreateEmployeeInput.invalidReason(employeeInputs.get(i));
+                if (reason != null) {
+                    results[i] = EmployeeBatchResult.failed(i, reason);
+                } else {
+                    valid.add(employeeInputs.get(i));
+                    validIndexes.add(i);
+                }
+            }
+
+            if (!valid.isEmpty()) {
+                mergeResults(results, validIndexes, employeeService.createEmployees(valid));
+            }
+            return ResponseEntity.ok(Arrays.asList(results));
+        } catch (Exception e) {
+            log.error("Failed to create {} employees", employeeInputs.size(), e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * Deletes many employees by id in one call. Ids that are not UUIDs are reported without being sent. One result
+     * per id, in order, carrying the deleted employee.
+     */
+    @DeleteMapping("/batch")
+    public ResponseEntity<List<EmployeeBatchResult>> deleteEmployeesById(@RequestBody List<String> ids) {
+        if (ids == null || ids.isEmpty() || ids.size() > MAX_BATCH_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        try {
+            EmployeeBatchResult[] results = new EmployeeBatchResult[ids.size()];
+            List<String> valid = new ArrayList<>(ids.size());
+            List<Integer> validIndexes = new ArrayList<>(ids.size());
+            for (int i = 0; i < ids.size(); i++) {
+                String id = ids.get(i) == null ? "" : ids.get(i).trim();
+                if (!isUuid(id)) {
+                    results[i] = EmployeeBatchResult.failed(i, "Invalid id: " + ids.get(i));
+                } else {
+                    valid.add(id);
+                    validIndexes.add(i);
+                }
+            }
+
+            if (!valid.isEmpty()) {
+                mergeResults(results, validIndexes, employeeService.deleteEmployeesById(valid));
+            }
+            return ResponseEntity.ok(Arrays.asList(results));
+        } catch (Exception e) {
+            log.error("Failed to delete {} employees", ids.size(), e);
             return ResponseEntity.internalServerError().build();
         }
     }
+
+    /*
+     * The service numbered its results by position among the items it was given; put them back at the position
+     * each item had in the request.
+     */
+    private static void mergeResults(
+            EmployeeBatchResult[] results, List<Integer> indexes, List<EmployeeBatchResult> serviceResults) {
+        for (EmployeeBatchResult result : serviceResults) {
+            int index = indexes.get(result.getIndex());
+            result.setIndex(index);
+            results[index] = result;
+        }
+    }
+
+    private static boolean isUuid(String id) {
+        try {
+            UUID.fromString(id);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private void writeNdjson(List<Employee> employees, OutputStream out) throws IOException {
+        // Leave flushing to the generator and servlet buffers instead of pushing a chunk per employee
+        ObjectWriter writer =
+                objectMapper.writerFor(Employee.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        JsonGenerator generator = objectMapper.createGenerator(out);
+        generator.setRootValueSeparator(null); // lines are ended with '\n' below instead
+        for (Employee employee : employees) {
+            writer.writeValue(generator, employee);
+            generator.writeRaw('\n');
+        }
+        generator.flush();
+    }
 }
@@ -2,6 +2,10 @@ package com.reliaquest.api.model;
 
 public class CreateEmployeeInput {
 
+    // The mock API rejects ages outside this range
+    public static final int MIN_AGE = 16;
+    public static final int MAX_AGE = 75;
+
     private String name;
     private Integer salary;
     private Integer age;
@@ -18,6 +22,30 @@ public class CreateEmployeeInput {
         this.title = title;
     }
 
+    /**
+     * The checks both employee controllers run before a create is sent upstream.
+     *
+     * @return why {@code input} would be rejected by a create, or {@code null} if it is valid
+     */
+    public static String invalidReason(CreateEmployeeInput input) {
+        if (input == null) {
+            return "Input must not be null";
+        }
+        if (input.getName() == null || input.getName().trim().isEmpty()) {
+            return "name must not be blank";
+        }
+        if (input.getSalary() == null || input.getSalary() <= 0) {
+            return "salary must be positive";
+        }
+        if (input.getAge() == null || input.getAge() < MIN_AGE || input.getAge() > MAX_AGE) {
+            return "age must be between " + MIN_AGE + " and " + MAX_AGE;
+        }
+        if (input.getTitle() == null || input.getTitle().trim().isEmpty()) {
+            return "title must not be blank";
+        }
+        return null;
+    }
+
     // Getters and Setters
     public String getName() {
         return name;
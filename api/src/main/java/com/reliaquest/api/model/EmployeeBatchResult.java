@@ -0,0 +1,64 @@
+package com.reliaquest.api.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Outcome of one item of a batch request: the employee when it succeeded, otherwise the error. {@code index} is the
+ * item's position in the request.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class EmployeeBatchResult {
+
+    @JsonProperty("index")
+    private int index;
+
+    @JsonProperty("data")
+    private Employee data;
+
+    @JsonProperty("error")
+    private String error;
+
+    // Default constructor
+    public EmployeeBatchResult() {}
+
+    // Constructor with all fields
+    public EmployeeBatchResult(int index, Employee data, String error) {
+        this.index = index;
+        this.data = data;
+        this.error = error;
+    }
+
+    public static EmployeeBatchResult succeeded(int index, Employee data) {
+        return new EmployeeBatchResult(index, data, null);
+    }
+
+    public static EmployeeBatchResult failed(int index, String error) {
+        return new EmployeeBatchResult(index, null, error);
+    }
+
+    // Getters and Setters
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public Employee getData() {
+        return data;
+    }
+
+    public void setData(Employee data) {
+        this.data = data;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
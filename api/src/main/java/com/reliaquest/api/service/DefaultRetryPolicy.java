@@ -0,0 +1,124 @@
+package com.reliaquest.api.service;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.UnknownHostException;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.apache.hc.client5.http.ConnectTimeoutException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+
+/**
+ * Retries on typed failure classes rather than on exception messages:
+ *
+ * <ul>
+ *   <li>429, and connection failures where the request never left this process, are always safe to retry
+ *   <li>502, 503, 504, 500 and other I/O errors (read timeouts, resets) are retried only for idempotent calls, since
+ *       the failed attempt may already have been applied
+ *   <li>every other status (404, 400, ...) and {@link UpstreamUnavailableException} fail immediately
+ * </ul>
+ *
+ * <p>Delays follow "decorrelated jitter": a random value between the base delay and three times the previous delay,
+ * capped at the max delay. A {@code Retry-After} header replaces the jittered delay. The policy gives up once the
+ * attempt count or the total retry-time budget would be exceeded.
+ */
+@Component
+public class DefaultRetryPolicy implements RetryPolicy {
+
+    private final int maxRetries;
+    private final long baseDelayMs;
+    private final long maxDelayMs;
+    private final long maxTotalMs;
+
+    @Autowired
+    public DefaultRetryPolicy(
+            @Value("${retry.max-attempts:5}") int maxRetries,
+            @Value("${retry.base-delay-ms:100}") long baseDelayMs,
+            @Value("${retry.max-delay-ms:2000}") long maxDelayMs,
+            @Value("${retry.max-total-ms:10000}") long maxTotalMs) {
+        this.maxRetries = maxRetries;
+        this.baseDelayMs = baseDelayMs;
+        this.maxDelayMs = maxDelayMs;
+        this.maxTotalMs = maxTotalMs;
+    }
+
+    @Override
+    public long nextDelayMs(Throwable failure, int attempt, long previousDelayMs, long elapsedMs, boolean idempotent) {
+        if (attempt >= maxRetries || !isRetryable(failure, idempotent)) {
+            return GIVE_UP;
+        }
+
+        HttpStatusCodeException statusException = findStatusException(failure);
+        Long retryAfter = statusException != null ? retryAfterMs(statusException) : null;
+        long delayMs = retryAfter != null ? retryAfter : jitteredDelayMs(previousDelayMs);
+        return elapsedMs + delayMs > maxTotalMs ? GIVE_UP : delayMs;
+    }
+
+    public boolean isRetryable(Throwable failure, boolean idempotent) {
+        if (failure instanceof UpstreamUnavailableException) {
+            return false;
+        }
+        HttpStatusCodeException statusException = findStatusException(failure);
+        if (statusException != null) {
+            return switch (statusException.getStatusCode().value()) {
+                case 429 -> true;
+                case 500, 502, 503, 504 -> idempotent;
+                default -> false;
+            };
+        }
+        IOException ioException = findCause(failure, IOException.class);
+        if (ioException instanceof ConnectException
+                || ioException instanceof ConnectTimeoutException
+                || ioException instanceof UnknownHostException) {
+            return true;
+        }
+        return ioException != null && idempotent;
+    }
+
+    private long jitteredDelayMs(long previousDelayMs) {
+        long upper = Math.max(baseDelayMs, previousDelayMs * 3);
+        long delayMs = upper > baseDelayMs ? ThreadLocalRandom.current().nextLong(baseDelayMs, upper + 1) : baseDelayMs;
+        return Math.min(delayMs, maxDelayMs);
+    }
+
+    static HttpStatusCodeException findStatusException(Throwable failure) {
+        return findCause(failure, HttpStatusCodeException.class);
+    }
+
+    /**
+     * Parses a {@code Retry-After} header, given either in seconds or as an HTTP date.
+     */
+    static Long retryAfterMs(HttpStatusCodeException e) {
+        String retryAfter =
+                e.getResponseHeaders() != null ? e.getResponseHeaders().getFirst("Retry-After") : null;
+        if (retryAfter == null) {
+            return null;
+        }
+        try {
+            return TimeUnit.SECONDS.toMillis(Long.parseLong(retryAfter.trim()));
+        } catch (NumberFormatException ignored) {
+            // fall through to the HTTP-date form
+        }
+        try {
+            ZonedDateTime at = ZonedDateTime.parse(retryAfter.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+            return Math.max(0, at.toInstant().toEpochMilli() - System.currentTimeMillis());
+        } catch (DateTimeParseException ignored) {
+            return null;
+        }
+    }
+
+    private static <E extends Throwable> E findCause(Throwable failure, Class<E> type) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (type.isInstance(cause)) {
+                return type.cast(cause);
+            }
+        }
+        return null;
+    }
+}
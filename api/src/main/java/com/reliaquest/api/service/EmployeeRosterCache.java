@@ -0,0 +1,451 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.model.Employee;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import java.time.Clock;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Shared, versioned snapshot of the upstream employee roster.
+ *
+ * <p>A snapshot younger than the TTL is served as is. Within the stale-while-revalidate window after that, the
+ * stale snapshot is still served while a single background refresh runs. Past both windows (or with no snapshot
+ * at all) the caller loads the roster synchronously. If that load fails, for instance because the upstream is
+ * rate limiting us, the last snapshot keeps being served for up to {@code max-stale-on-error-ms}.
+ *
+ * <p>Loads are conditional: the loader is handed the current snapshot's entity tag and may answer {@link
+ * RosterFetch#notModified()}, which renews the snapshot's age without re-reading the roster or rebuilding its
+ * indexes, or with the {@linkplain RosterFetch#changed changes} since, which are applied to the snapshot.
+ *
+ * <p>Ids the mock server reported as missing are remembered for a short negative TTL so repeated lookups for an
+ * unknown id do not each cost an upstream call.
+ *
+ * <p>Meters: {@code roster.cache.reads} counts reads by {@code result} (fresh, stale, load or stale_on_error),
+ * {@code roster.cache.loads} counts completed loads by {@code result} (modified, not_modified or delta, plus
+ * replayed when local creates or deletes made during the load were re-applied on top of it), and {@code
+ * roster.cache.age} and {@code roster.cache.size} gauge the current snapshot.
+ */
+@Component
+public class EmployeeRosterCache {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeRosterCache.class);
+
+    private static final int MAX_JOURNAL_SIZE = 10_000;
+
+    public static final int MAX_MISSING_IDS = 10_000;
+
+    private final long ttlMs;
+    private final long staleWhileRevalidateMs;
+    private final long negativeTtlMs;
+    private final long maxStaleOnErrorMs;
+    private final Clock clock;
+    private final Executor refreshExecutor;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private final Map<String, Long> missingUntil = new LinkedHashMap<>();
+    private final Meter.MeterProvider<Counter> readCounter;
+    private final Meter.MeterProvider<Counter> loadCounter;
+
+    private volatile RosterSnapshot current;
+    private long lastVersion;
+    private long mutations;
+
+    /*
+     * Local creates and deletes, sequenced by the mutation count, for re-applying on top of a roster fetched while
+     * they happened. Bounded: a load outlived by more writes than this re-applies only the latest of them.
+     */
+    private final Deque<RosterChange> journal = new ArrayDeque<>();
+
+    @Autowired
+    public EmployeeRosterCache(
+            @Value("${cache.roster.ttl-ms:5000}") long ttlMs,
+            @Value("${cache.roster.stale-while-revalidate-ms:30000}") long staleWhileRevalidateMs,
+            @Value("${cache.roster.negative-ttl-ms:2000}") long negativeTtlMs,
+            @Value("${cache.roster.max-stale-on-error-ms:300000}") long maxStaleOnErrorMs,
+            MeterRegistry meterRegistry) {
+        this(
+                ttlMs,
+                staleWhileRevalidateMs,
+                negativeTtlMs,
+                maxStaleOnErrorMs,
+                Clock.systemUTC(),
+                Executors.newSingleThreadExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "roster-refresh");
+                    thread.setDaemon(true);
+                    return thread;
+                }),
+                meterRegistry);
+    }
+
+    public EmployeeRosterCache(long ttlMs, long staleWhileRevalidateMs, long negativeTtlMs, long maxStaleOnErrorMs) {
+        this(ttlMs, staleWhileRevalidateMs, negativeTtlMs, maxStaleOnErrorMs, new CompositeMeterRegistry());
+    }
+
+    public EmployeeRosterCache(
+            long ttlMs,
+            long staleWhileRevalidateMs,
+            long negativeTtlMs,
+            long maxStaleOnErrorMs,
+            Clock clock,
+            Executor refreshExecutor) {
+        this(
+                ttlMs,
+                staleWhileRevalidateMs,
+                negativeTtlMs,
+                maxStaleOnErrorMs,
+                clock,
+                refreshExecutor,
+                new CompositeMeterRegistry());
+    }
+
+    public EmployeeRosterCache(
+            long ttlMs,
+            long staleWhileRevalidateMs,
+            long negativeTtlMs,
+            long maxStaleOnErrorMs,
+            Clock clock,
+            Executor refreshExecutor,
+            MeterRegistry meterRegistry) {
+        this.ttlMs = ttlMs;
+        this.staleWhileRevalidateMs = staleWhileRevalidateMs;
+        this.negativeTtlMs = negativeTtlMs;
+        this.maxStaleOnErrorMs = maxStaleOnErrorMs;
+        this.clock = clock;
+        this.refreshExecutor = refreshExecutor;
+
+        this.readCounter = Counter.builder("roster.cache.reads")
+                .description("Roster reads by how the snapshot was served")
+                .withRegistry(meterRegistry);
+        this.loadCounter = Counter.builder("roster.cache.loads")
+                .description("Completed roster loads by what the mock server answered")
+                .withRegistry(meterRegistry);
+        TimeGauge.builder("roster.cache.age", this, TimeUnit.MILLISECONDS, cache -> {
+                    RosterSnapshot snapshot = cache.current;
+                    return snapshot != null ? cache.clock.millis() - snapshot.getFetchedAtMillis() : Double.NaN;
+                })
+                .description("Age of the current roster snapshot")
+                .register(meterRegistry);
+        Gauge.builder("roster.cache.size", this, cache -> {
+                    RosterSnapshot snapshot = cache.current;
+                    return snapshot != null ? snapshot.getEmployees().size() : Double.NaN;
+                })
+                .description("Employees in the current roster snapshot")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the current snapshot, loading or revalidating it through the given loader as needed.
+     */
+    public RosterSnapshot get(Supplier<List<Employee>> loader) {
+        return getConditional(etag -> RosterFetch.modified(loader.get(), null));
+    }
+
+    /**
+     * Like {@link #get}, with a loader that is given the current snapshot's entity tag ({@code null} if there is none)
+     * and may answer that the roster has not been modified since.
+     */
+    public RosterSnapshot getConditional(Function<String, RosterFetch> loader) {
+        RosterSnapshot snapshot = current;
+        long age = snapshot != null ? clock.millis() - snapshot.getFetchedAtMillis() : Long.MAX_VALUE;
+        if (age < ttlMs) {
+            readCounter.withTag("result", "fresh").increment();
+            return snapshot;
+        }
+        if (age < ttlMs + staleWhileRevalidateMs) {
+            readCounter.withTag("result", "stale").increment();
+            refreshInBackground(loader);
+            return snapshot;
+        }
+
+        try {
+            RosterSnapshot loaded = load(loader);
+            readCounter.withTag("result", "load").increment();
+            return loaded;
+        } catch (RuntimeException e) {
+            return staleOnError(snapshot, age, e);
+        }
+    }
+
+    /**
+     * Non-blocking variant of {@link #get}: the same freshness rules, but a synchronous load becomes a future chained
+     * onto the given loader, and a background revalidation waits for the loader on the refresh thread.
+     */
+    public CompletableFuture<RosterSnapshot> getAsync(Supplier<CompletableFuture<List<Employee>>> loader) {
+        return getConditionalAsync(etag -> loader.get().thenApply(employees -> RosterFetch.modified(employees, null)));
+    }
+
+    /**
+     * Non-blocking variant of {@link #getConditional}.
+     */
+    public CompletableFuture<RosterSnapshot> getConditionalAsync(
+            Function<String, CompletableFuture<RosterFetch>> loader) {
+        RosterSnapshot snapshot = current;
+        long age = snapshot != null ? clock.millis() - snapshot.getFetchedAtMillis() : Long.MAX_VALUE;
+        if (age < ttlMs) {
+            readCounter.withTag("result", "fresh").increment();
+            return CompletableFuture.completedFuture(snapshot);
+        }
+        if (age < ttlMs + staleWhileRevalidateMs) {
+            readCounter.withTag("result", "stale").increment();
+            refreshInBackground(etag -> loader.apply(etag).join());
+            return CompletableFuture.completedFuture(snapshot);
+        }
+
+        long mutationsBefore;
+        synchronized (this) {
+            mutationsBefore = mutations;
+        }
+        CompletableFuture<RosterFetch> loading;
+        try {
+            loading = loader.apply(etagOf(snapshot));
+        } catch (RuntimeException e) {
+            loading = CompletableFuture.failedFuture(e);
+        }
+        return loading.handle((fetch, error) -> {
+            if (error == null) {
+                RosterSnapshot loaded = install(snapshot, fetch, mutationsBefore);
+                readCounter.withTag("result", "load").increment();
+                return loaded;
+            }
+            Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+            if (cause instanceof RuntimeException runtimeException) {
+                return staleOnError(snapshot, age, runtimeException);
+            }
+            throw new CompletionException(cause);
+        });
+    }
+
+    /**
+     * Returns the current snapshot without triggering any upstream traffic, if one is still within its stale window.
+     */
+    public Optional<RosterSnapshot> peek() {
+        RosterSnapshot snapshot = current;
+        if (snapshot == null || clock.millis() - snapshot.getFetchedAtMillis() >= ttlMs + staleWhileRevalidateMs) {
+            return Optional.empty();
+        }
+        return Optional.of(snapshot);
+    }
+
+    /**
+     * Returns the last snapshot that may still be served while the upstream is failing, without any upstream traffic.
+     */
+    public Optional<RosterSnapshot> lastGood() {
+        RosterSnapshot snapshot = current;
+        if (snapshot == null
+                || clock.millis() - snapshot.getFetchedAtMillis()
+                        >= ttlMs + staleWhileRevalidateMs + maxStaleOnErrorMs) {
+            return Optional.empty();
+        }
+        return Optional.of(snapshot);
+    }
+
+    public boolean isKnownMissing(String id) {
+        synchronized (missingUntil) {
+            Long until = missingUntil.get(id);
+            if (until == null) {
+                return false;
+            }
+            if (clock.millis() < until) {
+                return true;
+            }
+            missingUntil.remove(id);
+            return false;
+        }
+    }
+
+    /**
+     * Remembers at most {@value #MAX_MISSING_IDS} ids, so a client probing random ids cannot grow the cache without
+     * bound: expired entries are swept on insert, and past the cap the oldest are dropped.
+     */
+    public void recordMissing(String id) {
+        if (negativeTtlMs <= 0) {
+            return;
+        }
+        long now = clock.millis();
+        synchronized (missingUntil) {
+            missingUntil.remove(id); // re-inserted at the tail
+            missingUntil.put(id, now + negativeTtlMs);
+            // All entries share one TTL, so insertion order is expiry order: only the head can be expired
+            Iterator<Long> oldest = missingUntil.values().iterator();
+            while (oldest.hasNext()) {
+                long until = oldest.next();
+                if (until > now && missingUntil.size() <= MAX_MISSING_IDS) {
+                    break;
+                }
+                oldest.remove();
+            }
+        }
+    }
+
+    public synchronized void onEmployeeCreated(Employee employee) {
+        mutations++;
+        record(RosterChange.Type.CREATED, employee);
+        synchronized (missingUntil) {
+            missingUntil.remove(employee.getId());
+        }
+        if (current != null) {
+            current = current.withAdded(++lastVersion, employee);
+        }
+    }
+
+    /**
+     * The mock server deletes the first employee matching the name, so the snapshot is only patched when that match
+     * is unambiguous; otherwise it is dropped and reloaded on the next read.
+     */
+    public synchronized void onEmployeeDeleted(String id, String name) {
+        mutations++;
+        record(RosterChange.Type.DELETED, new Employee(id, name, null, null, null, null));
+        if (current == null) {
+            return;
+        }
+        current = current.countNamed(name) == 1 ? current.withRemoved(++lastVersion, id) : null;
+    }
+
+    public synchronized void invalidate() {
+        mutations++;
+        journal.clear();
+        current = null;
+    }
+
+    private RosterSnapshot staleOnError(RosterSnapshot snapshot, long age, RuntimeException e) {
+        if (age < ttlMs + staleWhileRevalidateMs + maxStaleOnErrorMs) {
+            readCounter.withTag("result", "stale_on_error").increment();
+            log.warn(
+                    "Roster load failed, serving snapshot v{} aged {}ms: {}",
+                    snapshot.getVersion(),
+                    age,
+                    e.getMessage());
+            return snapshot;
+        }
+        throw e;
+    }
+
+    private RosterSnapshot load(Function<String, RosterFetch> loader) {
+        long mutationsBefore;
+        RosterSnapshot base;
+        synchronized (this) {
+            mutationsBefore = mutations;
+            base = current;
+        }
+        RosterFetch fetch = loader.apply(etagOf(base));
+        return install(base, fetch, mutationsBefore);
+    }
+
+    /**
+     * Installs what a load fetched. Creates and deletes made here while it was in flight may or may not be reflected
+     * in the fetched roster, so they are re-applied on top of it; re-applying one the roster already reflects changes
+     * nothing. A load is therefore never thrown away because of concurrent writes, and the snapshot is renewed even
+     * while writes keep landing.
+     *
+     * @param base the snapshot whose entity tag the fetch was conditional on
+     */
+    private synchronized RosterSnapshot install(RosterSnapshot base, RosterFetch fetch, long mutationsBefore) {
+        List<RosterChange> replay = mutationsSince(mutationsBefore);
+        RosterSnapshot fetched;
+        if (fetch.isNotModified() || fetch.isDelta()) {
+            if (base == null) {
+                throw new IllegalStateException("Roster answered with a delta to an unconditional request");
+            }
+            loadCounter
+                    .withTag("result", fetch.isDelta() ? "delta" : "not_modified")
+                    .increment();
+            // Another load installed a snapshot meanwhile, and with no local writes to account for it is at least as
+            // fresh as this one
+            if (current != base && replay.isEmpty()) {
+                return current;
+            }
+            fetched = fetch.isDelta()
+                    ? base.withChanges(lastVersion + 1, clock.millis(), fetch.getEtag(), fetch.getChanges())
+                    : base.revalidated(clock.millis());
+        } else {
+            loadCounter.withTag("result", "modified").increment();
+            fetched = new RosterSnapshot(lastVersion + 1, clock.millis(), fetch.getEtag(), fetch.getEmployees());
+        }
+
+        current = replay.isEmpty() ? fetched : replay(fetched, replay);
+        lastVersion = Math.max(lastVersion, current.getVersion());
+        log.debug(
+                "Installed roster snapshot v{} with {} employees, {} local changes re-applied",
+                current.getVersion(),
+                current.getEmployees().size(),
+                replay.size());
+        return current;
+    }
+
+    private RosterSnapshot replay(RosterSnapshot fetched, List<RosterChange> replay) {
+        loadCounter.withTag("result", "replayed").increment();
+        RosterSnapshot replayed =
+                fetched.withChanges(lastVersion + 1, fetched.getFetchedAtMillis(), fetched.getEtag(), replay);
+        // Which employee a delete by an ambiguous name removed upstream is not known here; serve the best guess, but
+        // as stale, so the next read revalidates it in the background
+        boolean ambiguous = replay.stream()
+                .filter(change -> change.getType() == RosterChange.Type.DELETED)
+                .anyMatch(change -> fetched.countNamed(change.getEmployee().getEmployeeName()) > 1);
+        return ambiguous ? replayed.revalidated(clock.millis() - ttlMs) : replayed;
+    }
+
+    private List<RosterChange> mutationsSince(long mutationsBefore) {
+        List<RosterChange> since = new ArrayList<>();
+        for (RosterChange change : journal) {
+            if (change.getSequence() > mutationsBefore) {
+                since.add(change);
+            }
+        }
+        return since;
+    }
+
+    private void record(RosterChange.Type type, Employee employee) {
+        journal.addLast(new RosterChange(mutations, type, employee));
+        if (journal.size() > MAX_JOURNAL_SIZE) {
+            journal.removeFirst();
+        }
+    }
+
+    private static String etagOf(RosterSnapshot snapshot) {
+        return snapshot != null ? snapshot.getEtag() : null;
+    }
+
+    private void refreshInBackground(Function<String, RosterFetch> loader) {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    load(loader);
+                } catch (Exception e) {
+                    log.warn("Background roster refresh failed, serving stale snapshot: {}", e.getMessage());
+                } finally {
+                    refreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.set(false);
+        }
+    }
+}
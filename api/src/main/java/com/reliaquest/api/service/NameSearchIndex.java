@@ -0,0 +1,303 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Trigram index over lower-cased employee names, answering the case-insensitive {@code contains} search of the name
+ * search endpoint.
+ *
+ * <p>Every distinct three-character sequence of a name maps to the ascending positions of the names containing it. A
+ * query of three or more characters intersects the posting lists of its own trigrams, smallest first, and confirms
+ * each surviving candidate with a plain {@code contains} on the pre-lower-cased name, so the work is bounded by the
+ * rarest trigram of the query rather than by the roster. Queries shorter than a trigram scan the pre-lower-cased names;
+ * they match a large share of any roster anyway.
+ *
+ * <p>Instances are immutable. Creates and deletes on the roster are carried as a small delta on top of the base they
+ * were derived from, so one indexed roster serves a run of incremental snapshots. Once the delta grows past
+ * {@value #MAX_DELTA} entries the next snapshot builds a fresh index on first use.
+ */
+final class NameSearchIndex {
+
+    private static final int GRAM = 3;
+    static final int MAX_DELTA = 256;
+
+    private final Base base;
+    private final List<Employee> added;
+    private final List<String> addedNames;
+    private final Set<String> removedIds;
+
+    private NameSearchIndex(Base base, List<Employee> added, List<String> addedNames, Set<String> removedIds) {
+        this.base = base;
+        this.added = added;
+        this.addedNames = addedNames;
+        this.removedIds = removedIds;
+    }
+
+    static NameSearchIndex of(List<Employee> employees) {
+        return new NameSearchIndex(new Base(employees), List.of(), List.of(), Set.of());
+    }
+
+    /**
+     * @return matching employees in roster order
+     */
+    List<Employee> search(String searchString) {
+        String query = normalize(searchString);
+        List<Employee> matches = new ArrayList<>();
+        if (query.length() < GRAM) {
+            for (int doc = 0; doc < base.names.length; doc++) {
+                addIfMatches(matches, doc, query);
+            }
+        } else {
+            int[] candidates = base.candidates(query);
+            for (int doc : candidates) {
+                addIfMatches(matches, doc, query);
+            }
+        }
+        for (int i = 0; i < added.size(); i++) {
+            String name = addedNames.get(i);
+            if (name != null && name.contains(query)) {
+                matches.add(added.get(i));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Index after {@code employee} was appended to the roster, or {@code null} if it is time to rebuild.
+     */
+    NameSearchIndex withAdded(Employee employee) {
+        if (deltaSize() >= MAX_DELTA) {
+            return null;
+        }
+        List<Employee> employees = new ArrayList<>(added.size() + 1);
+        employees.addAll(added);
+        employees.add(employee);
+        List<String> names = new ArrayList<>(addedNames.size() + 1);
+        names.addAll(addedNames);
+        names.add(normalize(employee.getEmployeeName()));
+        return new NameSearchIndex(base, employees, names, removedIds);
+    }
+
+    /**
+     * Index after every employee with {@code id} was removed from the roster, or {@code null} if it is time to
+     * rebuild.
+     */
+    NameSearchIndex withRemoved(String id) {
+        if (deltaSize() >= MAX_DELTA) {
+            return null;
+        }
+        List<Employee> employees = new ArrayList<>(added.size());
+        List<String> names = new ArrayList<>(addedNames.size());
+        for (int i = 0; i < added.size(); i++) {
+            if (!id.equals(added.get(i).getId())) {
+                employees.add(added.get(i));
+                names.add(addedNames.get(i));
+            }
+        }
+        Set<String> removed = new HashSet<>(removedIds);
+        removed.add(id);
+        return new NameSearchIndex(base, employees, names, removed);
+    }
+
+    private int deltaSize() {
+        return added.size() + removedIds.size();
+    }
+
+    private void addIfMatches(List<Employee> matches, int doc, String query) {
+        String name = base.names[doc];
+        if (name == null || !name.contains(query)) {
+            return;
+        }
+        Employee employee = base.employees[doc];
+        if (removedIds.isEmpty() || employee.getId() == null || !removedIds.contains(employee.getId())) {
+            matches.add(employee);
+        }
+    }
+
+    /**
+     * Lower-cases like the original per-request scan did; employees without a name never match. Every name search,
+     * cached or streamed, folds names and queries with this.
+     */
+    static String normalize(String name) {
+        return name != null ? name.toLowerCase() : null;
+    }
+
+    private static long trigram(String name, int start) {
+        return ((long) name.charAt(start) << 32) | ((long) name.charAt(start + 1) << 16) | name.charAt(start + 2);
+    }
+
+    /**
+     * The indexed part: a fixed roster, its lower-cased names and the trigram posting lists. The posting lists sit
+     * back to back in one array and are found through an open-addressing table keyed by trigram, so a build allocates
+     * a handful of arrays rather than an object per trigram.
+     */
+    private static final class Base {
+
+        private final Employee[] employees;
+        private final String[] names;
+
+        /** Trigram + 1 per slot, {@code 0} for a free slot. */
+        private long[] slotKeys = new long[1024];
+
+        private int[] slotLists = new int[1024];
+        private int trigrams;
+
+        /** Posting list {@code n} runs from {@code docs[offsets[n]]} up to {@code docs[offsets[n + 1]]}. */
+        private final int[] offsets;
+
+        private final int[] docs;
+
+        Base(List<Employee> roster) {
+            employees = roster.toArray(new Employee[0]);
+            names = new String[employees.length];
+
+            // First pass numbers the trigrams and counts the names containing each
+            int[] counts = new int[1024];
+            int[] lastDoc = new int[1024]; // doc + 1, so that 0 means none yet
+            for (int doc = 0; doc < employees.length; doc++) {
+                String name = normalize(employees[doc].getEmployeeName());
+                names[doc] = name;
+                for (int start = 0; name != null && start + GRAM <= name.length(); start++) {
+                    int list = add(trigram(name, start));
+                    if (list == counts.length) {
+                        counts = Arrays.copyOf(counts, list * 2);
+                        lastDoc = Arrays.copyOf(lastDoc, list * 2);
+                    }
+                    if (lastDoc[list] != doc + 1) {
+                        lastDoc[list] = doc + 1;
+                        counts[list]++;
+                    }
+                }
+            }
+
+            // Second pass fills the lists, which come out ascending because names are visited in roster order
+            offsets = new int[trigrams + 1];
+            for (int list = 0; list < trigrams; list++) {
+                offsets[list + 1] = offsets[list] + counts[list];
+            }
+            docs = new int[offsets[trigrams]];
+            int[] next = Arrays.copyOf(offsets, trigrams);
+            for (int doc = 0; doc < names.length; doc++) {
+                String name = names[doc];
+                for (int start = 0; name != null && start + GRAM <= name.length(); start++) {
+                    int list = find(trigram(name, start));
+                    if (next[list] == offsets[list] || docs[next[list] - 1] != doc) {
+                        docs[next[list]++] = doc;
+                    }
+                }
+            }
+        }
+
+        /**
+         * Positions of the names containing every trigram of {@code query}, ascending.
+         */
+        int[] candidates(String query) {
+            int count = query.length() - GRAM + 1;
+            int[] lists = new int[count];
+            for (int start = 0; start < count; start++) {
+                int list = find(trigram(query, start));
+                if (list < 0) {
+                    return new int[0];
+                }
+                lists[start] = list;
+            }
+            // Shortest list first; queries are short enough for an insertion sort
+            for (int i = 1; i < count; i++) {
+                int list = lists[i];
+                int j = i - 1;
+                for (; j >= 0 && length(lists[j]) > length(list); j--) {
+                    lists[j + 1] = lists[j];
+                }
+                lists[j + 1] = list;
+            }
+
+            int[] candidates = Arrays.copyOfRange(docs, offsets[lists[0]], offsets[lists[0] + 1]);
+            int size = candidates.length;
+            for (int i = 1; i < count && size > 0; i++) {
+                size = retainAll(candidates, size, offsets[lists[i]], offsets[lists[i] + 1]);
+            }
+            return Arrays.copyOf(candidates, size);
+        }
+
+        private int length(int list) {
+            return offsets[list + 1] - offsets[list];
+        }
+
+        /**
+         * Keeps the candidates also present in {@code docs[from, to)}, searching forward from the last hit since both
+         * are ascending.
+         */
+        private int retainAll(int[] candidates, int size, int from, int to) {
+            int kept = 0;
+            for (int i = 0; i < size && from < to; i++) {
+                int found = Arrays.binarySearch(docs, from, to, candidates[i]);
+                if (found >= 0) {
+                    candidates[kept++] = candidates[i];
+                    from = found + 1;
+                } else {
+                    from = -found - 1;
+                }
+            }
+            return kept;
+        }
+
+        /**
+         * @return the list number of {@code trigram}, or {@code -1} if no name contains it
+         */
+        private int find(long trigram) {
+            int mask = slotKeys.length - 1;
+            for (int slot = Long.hashCode(trigram * 0x9E3779B97F4A7C15L) & mask; ; slot = (slot + 1) & mask) {
+                if (slotKeys[slot] == trigram + 1) {
+                    return slotLists[slot];
+                }
+                if (slotKeys[slot] == 0) {
+                    return -1;
+                }
+            }
+        }
+
+        /**
+         * @return the list number of {@code trigram}, numbering it if it is new
+         */
+        private int add(long trigram) {
+            int mask = slotKeys.length - 1;
+            for (int slot = Long.hashCode(trigram * 0x9E3779B97F4A7C15L) & mask; ; slot = (slot + 1) & mask) {
+                if (slotKeys[slot] == trigram + 1) {
+                    return slotLists[slot];
+                }
+                if (slotKeys[slot] == 0) {
+                    if (2 * (trigrams + 1) > slotKeys.length) {
+                        resize();
+                        return add(trigram);
+                    }
+                    slotKeys[slot] = trigram + 1;
+                    slotLists[slot] = trigrams;
+                    return trigrams++;
+                }
+            }
+        }
+
+        private void resize() {
+            long[] keys = slotKeys;
+            int[] lists = slotLists;
+            slotKeys = new long[keys.length * 2];
+            slotLists = new int[lists.length * 2];
+            int mask = slotKeys.length - 1;
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != 0) {
+                    int slot = Long.hashCode((keys[i] - 1) * 0x9E3779B97F4A7C15L) & mask;
+                    while (slotKeys[slot] != 0) {
+                        slot = (slot + 1) & mask;
+                    }
+                    slotKeys[slot] = keys[i];
+                    slotLists[slot] = lists[i];
+                }
+            }
+        }
+    }
+}
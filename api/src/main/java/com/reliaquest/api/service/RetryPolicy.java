@@ -0,0 +1,20 @@
+package com.reliaquest.api.service;
+
+/**
+ * Decides whether and when a failed upstream call is tried again. {@link UpstreamExecutor} consults it after every
+ * failed attempt, for blocking and async calls alike.
+ */
+public interface RetryPolicy {
+
+    long GIVE_UP = -1;
+
+    /**
+     * @param failure what the attempt threw
+     * @param attempt zero-based number of the attempt that just failed
+     * @param previousDelayMs the delay that preceded that attempt, {@code 0} for the first one
+     * @param elapsedMs time since the first attempt started
+     * @param idempotent whether repeating the call is safe even if the failed attempt reached the server
+     * @return milliseconds to wait before the next attempt, or {@link #GIVE_UP} to fail with {@code failure}
+     */
+    long nextDelayMs(Throwable failure, int attempt, long previousDelayMs, long elapsedMs, boolean idempotent);
+}
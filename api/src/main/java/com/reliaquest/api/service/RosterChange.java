@@ -0,0 +1,51 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.model.Employee;
+
+/**
+ * One entry of the mock server's roster change log. For a deletion, {@code employee} is the employee as it was
+ * removed.
+ */
+public class RosterChange {
+
+    public enum Type {
+        CREATED,
+        DELETED
+    }
+
+    private long sequence;
+    private Type type;
+    private Employee employee;
+
+    public RosterChange() {}
+
+    public RosterChange(long sequence, Type type, Employee employee) {
+        this.sequence = sequence;
+        this.type = type;
+        this.employee = employee;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public void setType(Type type) {
+        this.type = type;
+    }
+
+    public Employee getEmployee() {
+        return employee;
+    }
+
+    public void setEmployee(Employee employee) {
+        this.employee = employee;
+    }
+}
@@ -0,0 +1,68 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.model.Employee;
+import java.util.List;
+
+/**
+ * Outcome of a conditional roster request: the roster with the entity tag the mock server sent for it, the changes
+ * since the roster the request named, or confirmation that that roster is still current.
+ */
+public final class RosterFetch {
+
+    private static final RosterFetch NOT_MODIFIED = new RosterFetch(null, null, null);
+
+    private final List<Employee> employees;
+    private final List<RosterChange> changes;
+    private final String etag;
+
+    private RosterFetch(List<Employee> employees, List<RosterChange> changes, String etag) {
+        this.employees = employees;
+        this.changes = changes;
+        this.etag = etag;
+    }
+
+    /**
+     * @param etag the response's {@code ETag}, or {@code null} if it sent none
+     */
+    public static RosterFetch modified(List<Employee> employees, String etag) {
+        return new RosterFetch(employees, null, etag);
+    }
+
+    /**
+     * @param changes the changes since the requested roster, in sequence order
+     * @param etag the entity tag of the roster with the changes applied
+     */
+    public static RosterFetch changed(List<RosterChange> changes, String etag) {
+        return new RosterFetch(null, changes, etag);
+    }
+
+    public static RosterFetch notModified() {
+        return NOT_MODIFIED;
+    }
+
+    public boolean isNotModified() {
+        return this == NOT_MODIFIED;
+    }
+
+    public boolean isDelta() {
+        return changes != null;
+    }
+
+    /**
+     * @return the whole roster, or {@code null} for a delta or a not-modified answer
+     */
+    public List<Employee> getEmployees() {
+        return employees;
+    }
+
+    /**
+     * @return the changes since the requested roster, or {@code null} unless this is a delta
+     */
+    public List<RosterChange> getChanges() {
+        return changes;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+}
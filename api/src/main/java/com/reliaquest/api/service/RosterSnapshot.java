@@ -0,0 +1,394 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable view of the upstream employee roster at a point in time.
+ * Every change produces a new snapshot carrying a higher version.
+ */
+public final class RosterSnapshot {
+
+    private final long version;
+    private final long fetchedAtMillis;
+    private final String etag;
+    private final List<Employee> employees;
+    private final Map<String, Employee> employeesById;
+    private final Map<String, Integer> nameCounts;
+    private final SalaryAggregates salaryAggregates;
+    private volatile NameSearchIndex nameIndex;
+    private volatile Employee[] sortedById;
+
+    RosterSnapshot(long version, long fetchedAtMillis, List<Employee> employees) {
+        this(version, fetchedAtMillis, null, employees);
+    }
+
+    RosterSnapshot(long version, long fetchedAtMillis, String etag, List<Employee> employees) {
+        this(version, fetchedAtMillis, etag, employees, SalaryAggregates.of(employees), null, null, null);
+    }
+
+    private RosterSnapshot(
+            long version,
+            long fetchedAtMillis,
+            String etag,
+            List<Employee> employees,
+            SalaryAggregates salaryAggregates,
+            NameSearchIndex nameIndex,
+            Employee[] sortedById,
+            Map<String, Integer> nameCounts) {
+        this.version = version;
+        this.fetchedAtMillis = fetchedAtMillis;
+        this.etag = etag;
+        this.salaryAggregates = salaryAggregates;
+        this.nameIndex = nameIndex;
+        this.sortedById = sortedById;
+        this.employees = Collections.unmodifiableList(new ArrayList<>(employees));
+        this.employeesById = new HashMap<>(employees.size() * 4 / 3 + 1);
+        for (Employee employee : employees) {
+            if (employee.getId() != null) {
+                employeesById.putIfAbsent(employee.getId(), employee);
+            }
+        }
+        if (nameCounts == null) {
+            nameCounts = new HashMap<>();
+            for (Employee employee : employees) {
+                count(nameCounts, employee, 1);
+            }
+        }
+        this.nameCounts = nameCounts;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public long getFetchedAtMillis() {
+        return fetchedAtMillis;
+    }
+
+    /**
+     * The mock server's entity tag for the roster this snapshot was loaded or last synced as, or {@code null} if it
+     * sent none. Local patches keep it: the changes since then include them and are skipped when applied.
+     */
+    public String getEtag() {
+        return etag;
+    }
+
+    public List<Employee> getEmployees() {
+        return employees;
+    }
+
+    /**
+     * O(1) lookup against the id index built with this snapshot.
+     *
+     * @return the employee, or {@code null} if this snapshot does not contain the id
+     */
+    public Employee findById(String id) {
+        return employeesById.get(id);
+    }
+
+    /**
+     * Employees whose name equals {@code name} ignoring case, which is how the mock server picks the employee a
+     * delete by name removes. O(1) against a count kept up to date with the snapshot.
+     */
+    int countNamed(String name) {
+        return name == null ? 0 : nameCounts.getOrDefault(fold(name), 0);
+    }
+
+    /**
+     * Highest salary and top earners, maintained with the snapshot rather than computed per request.
+     */
+    public SalaryAggregates getSalaryAggregates() {
+        return salaryAggregates;
+    }
+
+    /**
+     * Case-insensitive substring search over employee names, in roster order. Served from a trigram index built on
+     * the first search against this snapshot and carried over to the snapshots derived from it.
+     */
+    public List<Employee> searchByName(String searchString) {
+        return nameIndex().search(searchString);
+    }
+
+    /**
+     * Keyset page over the employees ordered by id: up to {@code limit} employees whose id sorts after {@code
+     * afterId}, or from the start for a {@code null} {@code afterId}. Unlike an offset, the position stays valid while
+     * employees are created and deleted between pages. Employees without an id are not paged.
+     */
+    public List<Employee> pageAfter(String afterId, int limit) {
+        Employee[] sorted = sortedById();
+        int from = 0;
+        if (afterId != null) {
+            int found = indexOf(sorted, afterId);
+            from = found >= 0 ? found + 1 : -found - 1;
+        }
+        return Collections.unmodifiableList(
+                Arrays.asList(sorted).subList(from, Math.min(sorted.length, from + Math.max(0, limit))));
+    }
+
+    private Employee[] sortedById() {
+        Employee[] sorted = sortedById;
+        if (sorted == null) {
+            sorted = employeesById.values().toArray(new Employee[0]);
+            Arrays.sort(sorted, Comparator.comparing(Employee::getId));
+            sortedById = sorted;
+        }
+        return sorted;
+    }
+
+    private static int indexOf(Employee[] sorted, String id) {
+        int low = 0;
+        int high = sorted.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int comparison = sorted[mid].getId().compareTo(id);
+            if (comparison < 0) {
+                low = mid + 1;
+            } else if (comparison > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private NameSearchIndex nameIndex() {
+        NameSearchIndex index = nameIndex;
+        if (index == null) {
+            synchronized (this) {
+                index = nameIndex;
+                if (index == null) {
+                    index = NameSearchIndex.of(employees);
+                    nameIndex = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * The same roster, confirmed current by a {@code 304} at {@code fetchedAtMillis}. The lists, indexes and
+     * aggregates are shared rather than rebuilt.
+     */
+    RosterSnapshot revalidated(long fetchedAtMillis) {
+        return new RosterSnapshot(this, fetchedAtMillis, etag);
+    }
+
+    private RosterSnapshot(RosterSnapshot source, long fetchedAtMillis, String etag) {
+        this.version = source.version;
+        this.fetchedAtMillis = fetchedAtMillis;
+        this.etag = etag;
+        this.employees = source.employees;
+        this.employeesById = source.employeesById;
+        this.nameCounts = source.nameCounts;
+        this.salaryAggregates = source.salaryAggregates;
+        this.nameIndex = source.nameIndex;
+        this.sortedById = source.sortedById;
+    }
+
+    RosterSnapshot withAdded(long newVersion, Employee employee) {
+        List<Employee> updated = new ArrayList<>(employees.size() + 1);
+        updated.addAll(employees);
+        updated.add(employee);
+        Map<String, Integer> counts = new HashMap<>(nameCounts);
+        count(counts, employee, 1);
+        NameSearchIndex index = nameIndex;
+        return new RosterSnapshot(
+                newVersion,
+                fetchedAtMillis,
+                etag,
+                updated,
+                salaryAggregates.withAdded(employee),
+                index != null ? index.withAdded(employee) : null,
+                sortedWithAdded(employee),
+                counts);
+    }
+
+    RosterSnapshot withRemoved(long newVersion, String id) {
+        Employee removed = employeesById.get(id);
+        if (removed == null) {
+            return new RosterSnapshot(
+                    newVersion, fetchedAtMillis, etag, employees, salaryAggregates, nameIndex, sortedById, nameCounts);
+        }
+        List<Employee> updated = new ArrayList<>(employees.size());
+        Map<String, Integer> counts = new HashMap<>(nameCounts);
+        for (Employee employee : employees) {
+            if (id.equals(employee.getId())) {
+                count(counts, employee, -1);
+            } else {
+                updated.add(employee);
+            }
+        }
+        NameSearchIndex index = nameIndex;
+        return new RosterSnapshot(
+                newVersion,
+                fetchedAtMillis,
+                etag,
+                updated,
+                salaryAggregates.withRemoved(removed, updated),
+                index != null ? index.withRemoved(id) : null,
+                sortedWithRemoved(id),
+                counts);
+    }
+
+    /**
+     * The roster after the mock server's changes since this snapshot, built with one copy however many changes there
+     * are. Changes this snapshot already reflects, such as our own creates and deletes patched in locally, are
+     * skipped; if that leaves nothing to apply, the version is kept.
+     */
+    RosterSnapshot withChanges(long newVersion, long fetchedAtMillis, String etag, List<RosterChange> changes) {
+        Map<String, Employee> added = new LinkedHashMap<>();
+        Map<String, Employee> removed = new LinkedHashMap<>();
+        for (RosterChange change : changes) {
+            Employee employee = change.getEmployee();
+            String id = employee != null ? employee.getId() : null;
+            if (id == null) {
+                continue;
+            }
+            if (change.getType() == RosterChange.Type.CREATED) {
+                if (!employeesById.containsKey(id)) {
+                    added.putIfAbsent(id, employee);
+                }
+            } else if (added.remove(id) == null && employeesById.containsKey(id)) {
+                removed.put(id, employeesById.get(id)); // our own instance, which the aggregates hold
+            }
+        }
+        if (added.isEmpty() && removed.isEmpty()) {
+            return new RosterSnapshot(this, fetchedAtMillis, etag);
+        }
+
+        List<Employee> kept = employees;
+        Map<String, Integer> counts = new HashMap<>(nameCounts);
+        if (!removed.isEmpty()) {
+            kept = new ArrayList<>(employees.size() - removed.size());
+            for (Employee employee : employees) {
+                if (employee.getId() == null || !removed.containsKey(employee.getId())) {
+                    kept.add(employee);
+                } else {
+                    count(counts, employee, -1);
+                }
+            }
+        }
+        List<Employee> updated = new ArrayList<>(kept.size() + added.size());
+        updated.addAll(kept);
+        updated.addAll(added.values());
+
+        // A single removal can be patched out of the top earners; several could each fall back to a rescan
+        SalaryAggregates aggregates =
+                switch (removed.size()) {
+                    case 0 -> salaryAggregates;
+                    case 1 -> salaryAggregates.withRemoved(
+                            removed.values().iterator().next(), kept);
+                    default -> SalaryAggregates.of(kept);
+                };
+        NameSearchIndex index = nameIndex;
+        for (String id : removed.keySet()) {
+            index = index != null ? index.withRemoved(id) : null;
+        }
+        for (Employee employee : added.values()) {
+            aggregates = aggregates.withAdded(employee);
+            index = index != null ? index.withAdded(employee) : null;
+            count(counts, employee, 1);
+        }
+        return new RosterSnapshot(
+                newVersion,
+                fetchedAtMillis,
+                etag,
+                updated,
+                aggregates,
+                index,
+                sortedWithChanges(removed.keySet(), added.values()),
+                counts);
+    }
+
+    private static void count(Map<String, Integer> counts, Employee employee, int delta) {
+        String name = employee.getEmployeeName();
+        if (name != null) {
+            counts.merge(fold(name), delta, (count, change) -> count + change == 0 ? null : count + change);
+        }
+    }
+
+    /*
+     * Upper then lower case per char, the comparison equalsIgnoreCase makes, so names it matches share a key.
+     */
+    private static String fold(String name) {
+        char[] folded = new char[name.length()];
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = Character.toLowerCase(Character.toUpperCase(name.charAt(i)));
+        }
+        return new String(folded);
+    }
+
+    /**
+     * One merge pass instead of an array copy per change.
+     */
+    private Employee[] sortedWithChanges(Set<String> removedIds, Collection<Employee> added) {
+        Employee[] sorted = sortedById;
+        if (sorted == null) {
+            return null;
+        }
+        Employee[] additions = added.toArray(new Employee[0]);
+        Arrays.sort(additions, Comparator.comparing(Employee::getId));
+        Employee[] merged = new Employee[sorted.length - removedIds.size() + additions.length];
+        int from = 0;
+        int next = 0;
+        int to = 0;
+        while (from < sorted.length || next < additions.length) {
+            if (from < sorted.length && removedIds.contains(sorted[from].getId())) {
+                from++;
+            } else if (next == additions.length
+                    || (from < sorted.length && sorted[from].getId().compareTo(additions[next].getId()) < 0)) {
+                merged[to++] = sorted[from++];
+            } else {
+                merged[to++] = additions[next++];
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * The id order after an append, if this snapshot has one; a copy with the employee slotted in is cheaper than
+     * sorting again on the next page request.
+     */
+    private Employee[] sortedWithAdded(Employee employee) {
+        Employee[] sorted = sortedById;
+        if (sorted == null || employee.getId() == null) {
+            return sorted;
+        }
+        int found = indexOf(sorted, employee.getId());
+        if (found >= 0) {
+            return sorted; // the id is taken; lookups keep resolving to the earlier employee
+        }
+        int at = -found - 1;
+        Employee[] updated = new Employee[sorted.length + 1];
+        System.arraycopy(sorted, 0, updated, 0, at);
+        updated[at] = employee;
+        System.arraycopy(sorted, at, updated, at + 1, sorted.length - at);
+        return updated;
+    }
+
+    private Employee[] sortedWithRemoved(String id) {
+        Employee[] sorted = sortedById;
+        if (sorted == null) {
+            return null;
+        }
+        int at = indexOf(sorted, id);
+        if (at < 0) {
+            return sorted;
+        }
+        Employee[] updated = new Employee[sorted.length - 1];
+        System.arraycopy(sorted, 0, updated, 0, at);
+        System.arraycopy(sorted, at + 1, updated, at, sorted.length - at - 1);
+        return updated;
+    }
+}
@@ -0,0 +1,233 @@
+package com.reliaquest.api.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.reliaquest.api.model.Employee;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Answers roster queries straight off the token stream of the mock API's {@code {"data": [...]}} response, without
+ * binding the body to a list of {@link Employee}s first.
+ *
+ * <p>Each employee object is read into one reusable {@link EmployeeRecord} whose string fields are copied into
+ * char buffers, so scanning the roster allocates nothing per employee. An {@link Employee} is only built for a record
+ * the query keeps: a search match or a new top-ten entrant. Highest salary builds none at all.
+ */
+final class RosterStreamReader {
+
+    private static final JsonFactory JSON = new JsonFactory();
+
+    private RosterStreamReader() {}
+
+    interface EmployeeVisitor {
+        /**
+         * Called once per employee. The record is reused for the next employee once this returns.
+         */
+        void visit(EmployeeRecord record);
+    }
+
+    /**
+     * @return the highest salary, or {@code 0} for an empty roster; the same answer as {@link SalaryAggregates}
+     */
+    static int highestSalary(InputStream body) throws IOException {
+        int[] highest = {Integer.MIN_VALUE};
+        read(body, record -> {
+            if (record.hasSalary() && record.salary > highest[0]) {
+                highest[0] = record.salary;
+            }
+        });
+        return highest[0] == Integer.MIN_VALUE ? 0 : highest[0];
+    }
+
+    /**
+     * @return names of the ten highest earners, ordered like {@link SalaryAggregates#getTopTenNames()}
+     */
+    static List<String> topTenNames(InputStream body) throws IOException {
+        Employee[] top = new Employee[SalaryAggregates.TOP_K];
+        int[] size = {0};
+        read(body, record -> {
+            if (!record.hasSalary()
+                    || (size[0] == top.length && record.salary <= top[size[0] - 1].getEmployeeSalary())) {
+                return;
+            }
+            size[0] = SalaryAggregates.insert(top, size[0], record.toEmployee());
+        });
+        List<String> names = new ArrayList<>(size[0]);
+        for (int i = 0; i < size[0]; i++) {
+            names.add(top[i].getEmployeeName());
+        }
+        return names;
+    }
+
+    /**
+     * @return employees whose name contains {@code searchString}, ignoring case, in roster order
+     */
+    static List<Employee> searchByName(InputStream body, String searchString) throws IOException {
+        String query = NameSearchIndex.normalize(searchString);
+        // In Turkic locales even ASCII 'I' does not lower-case to 'i', so only elsewhere may ASCII names be folded
+        // a char at a time
+        boolean asciiFoldsPerChar = "I".toLowerCase().equals("i");
+        List<Employee> matches = new ArrayList<>();
+        read(body, record -> {
+            if (record.nameContains(query, asciiFoldsPerChar)) {
+                matches.add(record.toEmployee());
+            }
+        });
+        return matches;
+    }
+
+    static List<Employee> employees(InputStream body) throws IOException {
+        List<Employee> employees = new ArrayList<>();
+        read(body, record -> employees.add(record.toEmployee()));
+        return employees;
+    }
+
+    /**
+     * Visits every employee in the response's {@code data} array; other top-level fields are skipped.
+     */
+    static void read(InputStream body, EmployeeVisitor visitor) throws IOException {
+        EmployeeRecord record = new EmployeeRecord();
+        try (JsonParser parser = JSON.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Expected a JSON object, got " + parser.currentToken());
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("data".equals(field) && value == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        record.read(parser);
+                        visitor.visit(record);
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+    }
+
+    /**
+     * One employee object of the response, overwritten in place for each employee.
+     */
+    static final class EmployeeRecord {
+
+        private final TextField id = new TextField();
+        private final TextField name = new TextField();
+        private final TextField title = new TextField();
+        private final TextField email = new TextField();
+        private boolean hasSalary;
+        private int salary;
+        private boolean hasAge;
+        private int age;
+
+        private void read(JsonParser parser) throws IOException {
+            id.clear();
+            name.clear();
+            title.clear();
+            email.clear();
+            hasSalary = false;
+            hasAge = false;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName(); // canonicalized by the parser, not allocated per employee
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "id" -> id.read(parser);
+                    case "employee_name" -> name.read(parser);
+                    case "employee_title" -> title.read(parser);
+                    case "employee_email" -> email.read(parser);
+                    case "employee_salary" -> {
+                        hasSalary = value != JsonToken.VALUE_NULL;
+                        salary = hasSalary ? parser.getIntValue() : 0;
+                    }
+                    case "employee_age" -> {
+                        hasAge = value != JsonToken.VALUE_NULL;
+                        age = hasAge ? parser.getIntValue() : 0;
+                    }
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+
+        boolean hasSalary() {
+            return hasSalary;
+        }
+
+        /**
+         * Case-insensitive {@code contains} against a query already folded by {@link NameSearchIndex#normalize}, with
+         * the same result as the cached search. ASCII names are folded one char at a time instead of lower-casing
+         * them into a new string; others, where lower-casing can depend on context or change the length (such as
+         * 'İ'), are folded whole. Employees without a name never match.
+         */
+        boolean nameContains(String loweredQuery, boolean asciiFoldsPerChar) {
+            if (!name.present) {
+                return false;
+            }
+            if (!asciiFoldsPerChar || !name.isAscii()) {
+                return NameSearchIndex.normalize(name.value()).contains(loweredQuery);
+            }
+            int length = loweredQuery.length();
+            outer:
+            for (int start = 0; start + length <= name.length; start++) {
+                for (int i = 0; i < length; i++) {
+                    if (Character.toLowerCase(name.chars[start + i]) != loweredQuery.charAt(i)) {
+                        continue outer;
+                    }
+                }
+                return true;
+            }
+            return false;
+        }
+
+        Employee toEmployee() {
+            return new Employee(
+                    id.value(),
+                    name.value(),
+                    hasSalary ? salary : null,
+                    hasAge ? age : null,
+                    title.value(),
+                    email.value());
+        }
+    }
+
+    private static final class TextField {
+
+        private char[] chars = new char[64];
+        private int length;
+        private boolean present;
+
+        void clear() {
+            present = false;
+        }
+
+        boolean isAscii() {
+            for (int i = 0; i < length; i++) {
+                if (chars[i] >= 0x80) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        void read(JsonParser parser) throws IOException {
+            if (parser.currentToken() == JsonToken.VALUE_NULL) {
+                present = false;
+                return;
+            }
+            present = true;
+            length = parser.getTextLength();
+            if (length > chars.length) {
+                chars = Arrays.copyOf(chars, Math.max(length, chars.length * 2));
+            }
+            System.arraycopy(parser.getTextCharacters(), parser.getTextOffset(), chars, 0, length);
+        }
+
+        String value() {
+            return present ? new String(chars, 0, length) : null;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Salary aggregates kept alongside a {@link RosterSnapshot}: the highest salary and the top earners, so the
+ * highest-salary and top-ten endpoints answer without touching the roster list.
+ *
+ * <p>The aggregates hold a bounded buffer of the roster's top {@value #CAPACITY} earners, highest first, with equal
+ * salaries in roster order (the order a stable sort would give). Building them from a full roster costs one pass with
+ * a small sorted insert per candidate. A create costs one binary search over the buffer. A delete only forces a
+ * rebuild when enough buffered earners have been removed that fewer than {@value #TOP_K} remain. Employees without a
+ * salary are left out.
+ */
+public final class SalaryAggregates {
+
+    static final int TOP_K = 10;
+    private static final int CAPACITY = 2 * TOP_K;
+
+    /** The top {@code top.length} earners of the roster; at least {@link #TOP_K} unless fewer are eligible. */
+    private final Employee[] top;
+
+    private final int eligible;
+    private final int highestSalary;
+    private final List<String> topTenNames;
+
+    private SalaryAggregates(Employee[] top, int eligible) {
+        this.top = top;
+        this.eligible = eligible;
+        this.highestSalary = top.length > 0 ? top[0].getEmployeeSalary() : 0;
+        List<String> names = new ArrayList<>(Math.min(TOP_K, top.length));
+        for (int i = 0; i < top.length && i < TOP_K; i++) {
+            names.add(top[i].getEmployeeName());
+        }
+        this.topTenNames = Collections.unmodifiableList(names);
+    }
+
+    /**
+     * Builds the aggregates for a full roster.
+     */
+    public static SalaryAggregates of(List<Employee> employees) {
+        Employee[] buffer = new Employee[CAPACITY];
+        int size = 0;
+        int eligible = 0;
+        for (Employee employee : employees) {
+            Integer salary = employee.getEmployeeSalary();
+            if (salary == null) {
+                continue;
+            }
+            eligible++;
+            if (size == CAPACITY && salary <= buffer[size - 1].getEmployeeSalary()) {
+                continue;
+            }
+            size = insert(buffer, size, employee);
+        }
+        return new SalaryAggregates(Arrays.copyOf(buffer, size), eligible);
+    }
+
+    /**
+     * @return the highest salary, or {@code 0} for an empty roster
+     */
+    public int getHighestSalary() {
+        return highestSalary;
+    }
+
+    /**
+     * @return names of the ten highest earners, highest first
+     */
+    public List<String> getTopTenNames() {
+        return topTenNames;
+    }
+
+    /**
+     * Aggregates after {@code added} was appended to the roster.
+     */
+    SalaryAggregates withAdded(Employee added) {
+        Integer salary = added.getEmployeeSalary();
+        if (salary == null) {
+            return this;
+        }
+        // A newcomer ranks after everyone with the same salary, so unless the buffer still holds the whole roster
+        // with room to spare, it only gets in by beating the tail
+        boolean hasRoom = top.length == eligible && top.length < CAPACITY;
+        if (!hasRoom && salary <= top[top.length - 1].getEmployeeSalary()) {
+            return new SalaryAggregates(top, eligible + 1);
+        }
+        Employee[] buffer = Arrays.copyOf(top, CAPACITY);
+        int size = insert(buffer, top.length, added);
+        return new SalaryAggregates(Arrays.copyOf(buffer, size), eligible + 1);
+    }
+
+    /**
+     * Aggregates after {@code removed} was taken out of the roster, which is now {@code remaining}.
+     */
+    SalaryAggregates withRemoved(Employee removed, List<Employee> remaining) {
+        if (removed.getEmployeeSalary() == null) {
+            return this;
+        }
+        int index = -1;
+        for (int i = 0; i < top.length; i++) {
+            if (top[i] == removed) {
+                index = i;
+                break;
+            }
+        }
+        if (index < 0) {
+            return new SalaryAggregates(top, eligible - 1);
+        }
+
+        Employee[] shrunk = new Employee[top.length - 1];
+        System.arraycopy(top, 0, shrunk, 0, index);
+        System.arraycopy(top, index + 1, shrunk, index, top.length - index - 1);
+        if (shrunk.length < TOP_K && shrunk.length < eligible - 1) {
+            return of(remaining);
+        }
+        return new SalaryAggregates(shrunk, eligible - 1);
+    }
+
+    /**
+     * Inserts after all entries earning at least as much, dropping the last entry if the buffer is full.
+     *
+     * @return the new number of entries
+     */
+    static int insert(Employee[] buffer, int size, Employee employee) {
+        int salary = employee.getEmployeeSalary();
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (buffer[mid].getEmployeeSalary() >= salary) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        int newSize = Math.min(size + 1, buffer.length);
+        System.arraycopy(buffer, low, buffer, low + 1, newSize - low - 1);
+        buffer[low] = employee;
+        return newSize;
+    }
+}
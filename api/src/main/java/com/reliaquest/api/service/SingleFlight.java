@@ -0,0 +1,136 @@
+package com.reliaquest.api.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Coalesces concurrent calls for the same key into one in-flight execution.
+ *
+ * <p>The first caller for a key (the leader) runs the call; everyone arriving while it is still running joins that
+ * flight and receives the same result or exception. Once the flight lands the key is released, so later callers
+ * start a fresh one.
+ *
+ * <p>Meters: {@code upstream.singleflight.leaders} counts calls that ran, {@code upstream.singleflight.joined} calls
+ * that joined a flight already in progress, and {@code upstream.singleflight.active} gauges the flights in progress.
+ */
+@Component
+public class SingleFlight {
+
+    private final ConcurrentMap<String, CompletableFuture<Object>> flights = new ConcurrentHashMap<>();
+    private final AtomicLong leaders = new AtomicLong();
+    private final AtomicLong joined = new AtomicLong();
+
+    public SingleFlight() {
+        this(new CompositeMeterRegistry());
+    }
+
+    @Autowired
+    public SingleFlight(MeterRegistry meterRegistry) {
+        FunctionCounter.builder("upstream.singleflight.leaders", leaders, AtomicLong::get)
+                .description("Calls that ran because no flight for their key was in progress")
+                .register(meterRegistry);
+        FunctionCounter.builder("upstream.singleflight.joined", joined, AtomicLong::get)
+                .description("Calls that joined a flight already in progress instead of running")
+                .register(meterRegistry);
+        Gauge.builder("upstream.singleflight.active", flights, ConcurrentMap::size)
+                .description("Flights in progress")
+                .register(meterRegistry);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Supplier<T> call) {
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = flights.putIfAbsent(key, flight);
+        if (existing != null) {
+            joined.incrementAndGet();
+            return (T) await(existing);
+        }
+
+        leaders.incrementAndGet();
+        try {
+            T result = call.get();
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            flights.remove(key, flight);
+        }
+    }
+
+    /**
+     * Non-blocking variant of {@link #execute}: the leader starts {@code call}, joiners get a view of the same flight.
+     * Sync and async callers share flights, so one upstream call serves both.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> executeAsync(String key, Supplier<CompletableFuture<T>> call) {
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = flights.putIfAbsent(key, flight);
+        if (existing != null) {
+            joined.incrementAndGet();
+            return existing.thenApply(result -> (T) result);
+        }
+
+        leaders.incrementAndGet();
+        CompletableFuture<T> started;
+        try {
+            started = call.get();
+        } catch (RuntimeException | Error e) {
+            started = CompletableFuture.failedFuture(e);
+        }
+        started.whenComplete((result, error) -> {
+            flights.remove(key, flight);
+            if (error != null) {
+                flight.completeExceptionally(error instanceof CompletionException ? error.getCause() : error);
+            } else {
+                flight.complete(result);
+            }
+        });
+        // Hand out a dependent future so callers cannot complete the shared flight themselves
+        return flight.thenApply(result -> (T) result);
+    }
+
+    /**
+     * Number of calls that actually executed against the upstream.
+     */
+    public long getLeaderCount() {
+        return leaders.get();
+    }
+
+    /**
+     * Number of calls that piggybacked on a flight already in progress.
+     */
+    public long getJoinedCount() {
+        return joined.get();
+    }
+
+    public int getInFlightCount() {
+        return flights.size();
+    }
+
+    private static Object await(CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.reliaquest.api.service;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.util.EnumMap;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+
+/**
+ * Circuit breaker for calls to the mock API, so that an upstream outage (such as its 30-90s rate-limit lockout)
+ * costs callers a fast failure instead of a full round of retries.
+ *
+ * <p>While {@link State#CLOSED} the outcomes of the last {@code sliding-window-size} calls are kept. Once at least
+ * {@code minimum-calls} have been recorded, the breaker opens if the share of failed calls (429, 5xx, I/O errors)
+ * or of slow calls reaches its threshold. While {@link State#OPEN} no call is let through. After
+ * {@code open-duration-ms} it turns {@link State#HALF_OPEN} and admits {@code half-open-permitted-calls} trial
+ * calls: if they all succeed it closes again, and any failure reopens it.
+ */
+@Component
+public class UpstreamCircuitBreaker {
+
+    private static final Logger log = LoggerFactory.getLogger(UpstreamCircuitBreaker.class);
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private static final byte FAILED = 1;
+    private static final byte SLOW = 2;
+
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final long slowCallDurationMs;
+    private final int slowCallRateThreshold;
+    private final long openDurationMs;
+    private final int halfOpenPermittedCalls;
+    private final Clock clock;
+
+    private final byte[] window;
+    private int windowPosition;
+    private int recordedCalls;
+    private int failedCalls;
+    private int slowCalls;
+
+    private State state = State.CLOSED;
+    private long openedAtMs;
+    private int trialCallsStarted;
+    private int trialCallsSucceeded;
+    private final Map<State, Long> transitions = new EnumMap<>(State.class);
+
+    @Autowired
+    public UpstreamCircuitBreaker(
+            @Value("${circuit-breaker.sliding-window-size:20}") int slidingWindowSize,
+            @Value("${circuit-breaker.minimum-calls:10}") int minimumCalls,
+            @Value("${circuit-breaker.failure-rate-threshold:50}") int failureRateThreshold,
+            @Value("${circuit-breaker.slow-call-duration-ms:3000}") long slowCallDurationMs,
+            @Value("${circuit-breaker.slow-call-rate-threshold:80}") int slowCallRateThreshold,
+            @Value("${circuit-breaker.open-duration-ms:30000}") long openDurationMs,
+            @Value("${circuit-breaker.half-open-permitted-calls:2}") int halfOpenPermittedCalls) {
+        this(
+                slidingWindowSize,
+                minimumCalls,
+                failureRateThreshold,
+                slowCallDurationMs,
+                slowCallRateThreshold,
+                openDurationMs,
+                halfOpenPermittedCalls,
+                Clock.systemUTC());
+    }
+
+    public UpstreamCircuitBreaker(
+            int slidingWindowSize,
+            int minimumCalls,
+            int failureRateThreshold,
+            long slowCallDurationMs,
+            int slowCallRateThreshold,
+            long openDurationMs,
+            int halfOpenPermittedCalls,
+            Clock clock) {
+        this.window = new byte[slidingWindowSize];
+        this.minimumCalls = Math.min(minimumCalls, slidingWindowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallDurationMs = slowCallDurationMs;
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.openDurationMs = openDurationMs;
+        this.halfOpenPermittedCalls = halfOpenPermittedCalls;
+        this.clock = clock;
+    }
+
+    /**
+     * Asks to send one upstream call. Every granted permission must be followed by {@link #onSuccess}, {@link
+     * #onFailure} or, if the call was never sent, {@link #release}.
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (clock.millis() - openedAtMs < openDurationMs) {
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (trialCallsStarted >= halfOpenPermittedCalls) {
+                return false;
+            }
+            trialCallsStarted++;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess(long durationMs) {
+        if (state == State.OPEN) {
+            return; // a call admitted before the breaker opened
+        }
+        if (state == State.HALF_OPEN) {
+            if (++trialCallsSucceeded >= halfOpenPermittedCalls) {
+                transitionTo(State.CLOSED);
+            }
+            return;
+        }
+        record(durationMs >= slowCallDurationMs ? SLOW : 0);
+    }
+
+    public synchronized void onFailure(long durationMs) {
+        if (state == State.OPEN) {
+            return;
+        }
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.OPEN);
+            return;
+        }
+        record((byte) (FAILED | (durationMs >= slowCallDurationMs ? SLOW : 0)));
+    }
+
+    /**
+     * Gives back a permission whose call was never sent, e.g. because the rate governor refused it.
+     */
+    public synchronized void release() {
+        if (state == State.HALF_OPEN && trialCallsStarted > trialCallsSucceeded) {
+            trialCallsStarted--;
+        }
+    }
+
+    /**
+     * Whether a failure says something about the health of the upstream. A 404 or 400 is a perfectly healthy answer.
+     */
+    public static boolean isUpstreamFailure(Throwable failure) {
+        HttpStatusCodeException statusException = DefaultRetryPolicy.findStatusException(failure);
+        if (statusException != null) {
+            int status = statusException.getStatusCode().value();
+            return status == 429 || status >= 500;
+        }
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof IOException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public synchronized State getState() {
+        if (state == State.OPEN && clock.millis() - openedAtMs >= openDurationMs) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    /**
+     * Number of times the breaker has moved into the given state.
+     */
+    public synchronized long getTransitionCount(State to) {
+        return transitions.getOrDefault(to, 0L);
+    }
+
+    private void record(byte outcome) {
+        if (recordedCalls == window.length) {
+            byte evicted = window[windowPosition];
+            failedCalls -= evicted & FAILED;
+            slowCalls -= (evicted & SLOW) >> 1;
+        } else {
+            recordedCalls++;
+        }
+        window[windowPosition] = outcome;
+        windowPosition = (windowPosition + 1) % window.length;
+        failedCalls += outcome & FAILED;
+        slowCalls += (outcome & SLOW) >> 1;
+
+        if (recordedCalls >= minimumCalls
+                && (failedCalls * 100 >= failureRateThreshold * recordedCalls
+                        || slowCalls * 100 >= slowCallRateThreshold * recordedCalls)) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    private void transitionTo(State next) {
+        log.warn(
+                "Upstream circuit breaker {} -> {} ({} failed, {} slow of last {} calls)",
+                state,
+                next,
+                failedCalls,
+                slowCalls,
+                recordedCalls);
+        state = next;
+        transitions.merge(next, 1L, Long::sum);
+        trialCallsStarted = 0;
+        trialCallsSucceeded = 0;
+        if (next == State.OPEN) {
+            openedAtMs = clock.millis();
+        }
+        if (next != State.HALF_OPEN) {
+            // Start from a clean window after every open/close so old outcomes do not re-trip the breaker
+            windowPosition = 0;
+            recordedCalls = 0;
+            failedCalls = 0;
+            slowCalls = 0;
+        }
+    }
+}
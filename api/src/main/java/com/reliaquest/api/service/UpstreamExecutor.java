@@ -0,0 +1,485 @@
+package com.reliaquest.api.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+
+/**
+ * Runs upstream calls with rate-limit permits and retries.
+ *
+ * <p>{@link #executeWithRetry} blocks the calling thread for the whole exchange, backoff included. {@link
+ * #executeWithRetryAsync} runs each attempt on a small bounded pool and schedules permit waits and backoff delays on
+ * a timer, so a caller that is waiting out a 429 holds no thread at all, only a pending future.
+ *
+ * <p>Every attempt needs permission from the {@link UpstreamCircuitBreaker} first; while it is open calls fail
+ * straight away with {@link UpstreamUnavailableException}, which the retry policy never retries.
+ *
+ * <p>With {@code spring.threads.virtual.enabled} each async attempt gets its own virtual thread instead of a slot in
+ * the bounded pool; concurrency towards the mock server is then bounded by the HTTP connection pool alone.
+ *
+ * <p>Meters, all tagged with the operation name:
+ *
+ * <ul>
+ *   <li>{@code upstream.requests}: timer per attempt, tagged {@code outcome} (success, throttled, server_error,
+ *       client_error or error)
+ *   <li>{@code upstream.errors}: counter per failed attempt, tagged {@code status} (the HTTP status, or the exception
+ *       type when there was no response)
+ *   <li>{@code upstream.attempts}: attempts per call, tagged {@code outcome} (success or failure)
+ *   <li>{@code upstream.backoff}: each delay before a retry
+ *   <li>{@code upstream.permit.wait}: time waiting for the {@link UpstreamRateGovernor} before an attempt
+ *   <li>{@code upstream.rejected}: calls not sent at all, tagged {@code reason} (circuit_open, budget_exhausted or
+ *       queue_full)
+ * </ul>
+ *
+ * <p>The {@link UpstreamCircuitBreaker}'s meters are not per operation:
+ *
+ * <ul>
+ *   <li>{@code upstream.circuit.state}: gauge per {@code state} (closed, open or half_open), 1 for the current state
+ *       and 0 for the others
+ *   <li>{@code upstream.circuit.transitions}: counter of moves into each state, tagged {@code to}
+ * </ul>
+ */
+@Component
+public class UpstreamExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(UpstreamExecutor.class);
+
+    private static final long DEFAULT_MAX_TOTAL_RETRY_MS = 10000;
+    private static final int DEFAULT_BREAKER_WINDOW = 20;
+    private static final int DEFAULT_BREAKER_MINIMUM_CALLS = 10;
+    private static final int DEFAULT_BREAKER_FAILURE_RATE = 50;
+    private static final long DEFAULT_BREAKER_SLOW_CALL_MS = 3000;
+    private static final int DEFAULT_BREAKER_SLOW_CALL_RATE = 80;
+    private static final long DEFAULT_BREAKER_OPEN_MS = 30000;
+    private static final int DEFAULT_BREAKER_HALF_OPEN_CALLS = 2;
+    private static final int DEFAULT_CALL_THREADS = 16;
+    private static final int DEFAULT_QUEUE_CAPACITY = 1000;
+
+    private final UpstreamRateGovernor rateGovernor;
+    private final RetryPolicy retryPolicy;
+    private final UpstreamCircuitBreaker circuitBreaker;
+    private final long maxQueueWaitMs;
+    private final ExecutorService callExecutor;
+    private final ScheduledExecutorService retryScheduler;
+
+    private final Meter.MeterProvider<Timer> requestTimer;
+    private final Meter.MeterProvider<Counter> errorCounter;
+    private final Meter.MeterProvider<DistributionSummary> attemptsSummary;
+    private final Meter.MeterProvider<Timer> backoffTimer;
+    private final Meter.MeterProvider<Timer> permitWaitTimer;
+    private final Meter.MeterProvider<Counter> rejectedCounter;
+
+    public UpstreamExecutor(
+            UpstreamRateGovernor rateGovernor, int maxRetries, long baseDelayMs, long maxDelayMs, long maxQueueWaitMs) {
+        this(
+                rateGovernor,
+                new DefaultRetryPolicy(maxRetries, baseDelayMs, maxDelayMs, DEFAULT_MAX_TOTAL_RETRY_MS),
+                new UpstreamCircuitBreaker(
+                        DEFAULT_BREAKER_WINDOW,
+                        DEFAULT_BREAKER_MINIMUM_CALLS,
+                        DEFAULT_BREAKER_FAILURE_RATE,
+                        DEFAULT_BREAKER_SLOW_CALL_MS,
+                        DEFAULT_BREAKER_SLOW_CALL_RATE,
+                        DEFAULT_BREAKER_OPEN_MS,
+                        DEFAULT_BREAKER_HALF_OPEN_CALLS),
+                maxQueueWaitMs,
+                DEFAULT_CALL_THREADS,
+                DEFAULT_QUEUE_CAPACITY,
+                false);
+    }
+
+    public UpstreamExecutor(
+            UpstreamRateGovernor rateGovernor,
+            RetryPolicy retryPolicy,
+            UpstreamCircuitBreaker circuitBreaker,
+            long maxQueueWaitMs,
+            int callThreads,
+            int queueCapacity,
+            boolean virtualThreads) {
+        this(
+                rateGovernor,
+                retryPolicy,
+                circuitBreaker,
+                maxQueueWaitMs,
+                callThreads,
+                queueCapacity,
+                virtualThreads,
+                new CompositeMeterRegistry());
+    }
+
+    /**
+     * @param meterRegistry where the meters listed above are registered
+     */
+    @Autowired
+    public UpstreamExecutor(
+            UpstreamRateGovernor rateGovernor,
+            RetryPolicy retryPolicy,
+            UpstreamCircuitBreaker circuitBreaker,
+            @Value("${rate-limit.max-queue-wait-ms:2000}") long maxQueueWaitMs,
+            @Value("${upstream.async.call-threads:16}") int callThreads,
+            @Value("${upstream.async.queue-capacity:1000}") int queueCapacity,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            MeterRegistry meterRegistry) {
+        this.rateGovernor = rateGovernor;
+        this.retryPolicy = retryPolicy;
+        this.circuitBreaker = circuitBreaker;
+        this.maxQueueWaitMs = maxQueueWaitMs;
+        this.callExecutor = virtualThreads
+                ? Executors.newThreadPerTaskExecutor(
+                        Thread.ofVirtual().name("upstream-call-", 1).factory())
+                : boundedPool(callThreads, queueCapacity);
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(daemonThreads("upstream-retry-"));
+
+        this.requestTimer = Timer.builder("upstream.requests")
+                .description("Upstream call attempts")
+                .withRegistry(meterRegistry);
+        this.errorCounter = Counter.builder("upstream.errors")
+                .description("Failed upstream call attempts by HTTP status or exception type")
+                .withRegistry(meterRegistry);
+        this.attemptsSummary = DistributionSummary.builder("upstream.attempts")
+                .description("Attempts per upstream call, retries included")
+                .serviceLevelObjectives(1, 2, 3, 4, 5, 10)
+                .withRegistry(meterRegistry);
+        this.backoffTimer = Timer.builder("upstream.backoff")
+                .description("Delays before retrying an upstream call")
+                .withRegistry(meterRegistry);
+        this.permitWaitTimer = Timer.builder("upstream.permit.wait")
+                .description("Time waiting for the rate governor before an upstream attempt")
+                .withRegistry(meterRegistry);
+        this.rejectedCounter = Counter.builder("upstream.rejected")
+                .description("Upstream calls not sent because the circuit was open or no permit was granted")
+                .withRegistry(meterRegistry);
+
+        for (UpstreamCircuitBreaker.State state : UpstreamCircuitBreaker.State.values()) {
+            String tag = state.name().toLowerCase();
+            Gauge.builder("upstream.circuit.state", circuitBreaker, breaker -> breaker.getState() == state ? 1 : 0)
+                    .description("Whether the upstream circuit breaker is in this state")
+                    .tag("state", tag)
+                    .register(meterRegistry);
+            FunctionCounter.builder(
+                            "upstream.circuit.transitions",
+                            circuitBreaker,
+                            breaker -> breaker.getTransitionCount(state))
+                    .description("Upstream circuit breaker moves into this state")
+                    .tag("to", tag)
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Executes an idempotent upstream call with retries; see {@link #executeWithRetry(Supplier, String, boolean)}.
+     */
+    public <T> T executeWithRetry(Supplier<T> supplier, String operationName) {
+        return executeWithRetry(supplier, operationName, true);
+    }
+
+    /**
+     * Executes a supplier function with retry logic to handle rate limiting and transient upstream failures.
+     * Every attempt first takes a permit from the {@link UpstreamRateGovernor}; whether and when to retry is up to
+     * the {@link RetryPolicy}.
+     *
+     * @param supplier The function to execute
+     * @param operationName Name of the operation for logging
+     * @param idempotent Whether the call may be repeated after an attempt that might have reached the server
+     * @param <T> Return type
+     * @return Result of the supplier function
+     * @throws UpstreamUnavailableException if the circuit is open or the governor cannot grant a permit in time
+     * @throws RuntimeException the last attempt's failure once the policy gives up
+     */
+    public <T> T executeWithRetry(Supplier<T> supplier, String operationName, boolean idempotent) {
+        return executeWithRetry(supplier, operationName, idempotent, System.currentTimeMillis());
+    }
+
+    /**
+     * Executes a call that continues an earlier one, such as the DELETE after the GET that resolved its target: the
+     * call takes its own permits, but the {@link RetryPolicy}'s total-time budget counts from {@code startedAt}, so
+     * the two calls together retry no longer than one would.
+     *
+     * @param startedAt when the first call of the sequence started, in epoch milliseconds
+     */
+    public <T> T executeWithRetry(Supplier<T> supplier, String operationName, boolean idempotent, long startedAt) {
+        long delayMs = 0;
+        for (int attempt = 0; ; attempt++) {
+            acquirePermits(operationName);
+            long attemptStartedAt = System.nanoTime();
+            try {
+                T result = supplier.get();
+                recordSuccess(operationName, attempt, System.nanoTime() - attemptStartedAt);
+                return result;
+            } catch (RuntimeException e) {
+                recordFailure(operationName, e, System.nanoTime() - attemptStartedAt);
+
+                delayMs = retryPolicy.nextDelayMs(
+                        e, attempt, delayMs, System.currentTimeMillis() - startedAt, idempotent);
+                if (delayMs == RetryPolicy.GIVE_UP) {
+                    recordGaveUp(operationName, attempt);
+                    log.error("Operation {} failed after {} attempts: {}", operationName, attempt + 1, e.getMessage());
+                    throw e;
+                }
+                recordRetry(operationName, attempt, delayMs, e);
+
+                try {
+                    TimeUnit.MILLISECONDS.sleep(delayMs);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException("Operation interrupted: " + operationName, ie);
+                }
+            } catch (Error e) {
+                // Never retried, but the breaker permit and the governor outcome are still settled
+                recordFailure(operationName, e, System.nanoTime() - attemptStartedAt);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Asynchronously executes an idempotent upstream call; see {@link #executeWithRetryAsync(Supplier, String,
+     * boolean)}.
+     */
+    public <T> CompletableFuture<T> executeWithRetryAsync(Supplier<T> supplier, String operationName) {
+        return executeWithRetryAsync(supplier, operationName, true);
+    }
+
+    /**
+     * Non-blocking counterpart of {@link #executeWithRetry}: same permits, retry policy and backoff, but no thread is
+     * parked between attempts. The returned future fails with {@link UpstreamUnavailableException} if no permit is
+     * granted in time, or with the last attempt's exception once the policy gives up.
+     */
+    public <T> CompletableFuture<T> executeWithRetryAsync(
+            Supplier<T> supplier, String operationName, boolean idempotent) {
+        return executeWithRetryAsync(supplier, operationName, idempotent, System.currentTimeMillis());
+    }
+
+    /**
+     * Non-blocking counterpart of {@link #executeWithRetry(Supplier, String, boolean, long)}.
+     */
+    public <T> CompletableFuture<T> executeWithRetryAsync(
+            Supplier<T> supplier, String operationName, boolean idempotent, long startedAt) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        long permitDeadline = System.currentTimeMillis() + maxQueueWaitMs;
+        attemptAsync(new AsyncCall<>(supplier, operationName, idempotent, startedAt, result), 0, 0, permitDeadline);
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        retryScheduler.shutdownNow();
+        callExecutor.shutdownNow();
+    }
+
+    private <T> void attemptAsync(AsyncCall<T> call, int attempt, long previousDelayMs, long permitDeadline) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            call.result.completeExceptionally(circuitOpen(call.operationName));
+            return;
+        }
+        long waitMs = rateGovernor.tryAcquire();
+        permitWaitTimer.withTag("operation", call.operationName).record(waitMs, TimeUnit.MILLISECONDS);
+        if (waitMs > 0) {
+            circuitBreaker.release();
+            if (System.currentTimeMillis() + waitMs > permitDeadline) {
+                call.result.completeExceptionally(budgetExhausted(call.operationName));
+                return;
+            }
+            schedule(() -> attemptAsync(call, attempt, previousDelayMs, permitDeadline), waitMs, call.result);
+            return;
+        }
+
+        try {
+            callExecutor.execute(() -> {
+                long attemptStartedAt = System.nanoTime();
+                try {
+                    T value = call.supplier.get();
+                    recordSuccess(call.operationName, attempt, System.nanoTime() - attemptStartedAt);
+                    call.result.complete(value);
+                } catch (RuntimeException e) {
+                    recordFailure(call.operationName, e, System.nanoTime() - attemptStartedAt);
+
+                    long delayMs = retryPolicy.nextDelayMs(
+                            e, attempt, previousDelayMs, System.currentTimeMillis() - call.startedAt, call.idempotent);
+                    if (delayMs == RetryPolicy.GIVE_UP) {
+                        recordGaveUp(call.operationName, attempt);
+                        log.error(
+                                "Operation {} failed after {} attempts: {}",
+                                call.operationName,
+                                attempt + 1,
+                                e.getMessage());
+                        call.result.completeExceptionally(e);
+                        return;
+                    }
+                    recordRetry(call.operationName, attempt, delayMs, e);
+                    schedule(
+                            () -> attemptAsync(call, attempt + 1, delayMs, System.currentTimeMillis() + maxQueueWaitMs),
+                            delayMs,
+                            call.result);
+                } catch (Throwable t) {
+                    // An Error is never retried, but the caller must not wait forever, and the breaker permit and
+                    // the governor outcome are still settled
+                    recordFailure(call.operationName, t, System.nanoTime() - attemptStartedAt);
+                    call.result.completeExceptionally(t);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // We took permits but never used them
+            rateGovernor.onError();
+            circuitBreaker.release();
+            rejectedCounter
+                    .withTags("operation", call.operationName, "reason", "queue_full")
+                    .increment();
+            call.result.completeExceptionally(new UpstreamUnavailableException(
+                    "Upstream call queue is full; " + call.operationName + " not sent"));
+        }
+    }
+
+    private void schedule(Runnable task, long delayMs, CompletableFuture<?> result) {
+        try {
+            retryScheduler.schedule(task, delayMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e);
+        }
+    }
+
+    private void acquirePermits(String operationName) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            throw circuitOpen(operationName);
+        }
+        boolean permitted = false;
+        long waitStartedAt = System.nanoTime();
+        try {
+            permitted = rateGovernor.acquire(maxQueueWaitMs);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Operation interrupted: " + operationName, ie);
+        } finally {
+            permitWaitTimer
+                    .withTag("operation", operationName)
+                    .record(System.nanoTime() - waitStartedAt, TimeUnit.NANOSECONDS);
+            if (!permitted) {
+                circuitBreaker.release();
+            }
+        }
+        if (!permitted) {
+            throw budgetExhausted(operationName);
+        }
+    }
+
+    private UpstreamUnavailableException circuitOpen(String operationName) {
+        rejectedCounter
+                .withTags("operation", operationName, "reason", "circuit_open")
+                .increment();
+        return new UpstreamUnavailableException("Upstream circuit is open; " + operationName + " not sent");
+    }
+
+    private UpstreamUnavailableException budgetExhausted(String operationName) {
+        rejectedCounter
+                .withTags("operation", operationName, "reason", "budget_exhausted")
+                .increment();
+        return new UpstreamUnavailableException("Upstream request budget exhausted; " + operationName + " not sent");
+    }
+
+    private void recordSuccess(String operationName, int attempt, long durationNanos) {
+        rateGovernor.onSuccess();
+        circuitBreaker.onSuccess(TimeUnit.NANOSECONDS.toMillis(durationNanos));
+        requestTimer
+                .withTags("operation", operationName, "outcome", "success")
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+        attemptsSummary
+                .withTags("operation", operationName, "outcome", "success")
+                .record(attempt + 1);
+    }
+
+    private void recordFailure(String operationName, Throwable e, long durationNanos) {
+        HttpStatusCodeException statusException = DefaultRetryPolicy.findStatusException(e);
+        int status = statusException != null ? statusException.getStatusCode().value() : 0;
+        if (status == 429) {
+            rateGovernor.onThrottled(DefaultRetryPolicy.retryAfterMs(statusException));
+        } else {
+            rateGovernor.onError();
+        }
+        long durationMs = TimeUnit.NANOSECONDS.toMillis(durationNanos);
+        if (UpstreamCircuitBreaker.isUpstreamFailure(e)) {
+            circuitBreaker.onFailure(durationMs);
+        } else {
+            circuitBreaker.onSuccess(durationMs);
+        }
+
+        String outcome =
+                status == 429 ? "throttled" : status >= 500 ? "server_error" : status >= 400 ? "client_error" : "error";
+        requestTimer
+                .withTags("operation", operationName, "outcome", outcome)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+        errorCounter
+                .withTags(
+                        "operation",
+                        operationName,
+                        "status",
+                        status != 0 ? String.valueOf(status) : e.getClass().getSimpleName())
+                .increment();
+    }
+
+    private void recordGaveUp(String operationName, int attempt) {
+        attemptsSummary
+                .withTags("operation", operationName, "outcome", "failure")
+                .record(attempt + 1);
+    }
+
+    private void recordRetry(String operationName, int attempt, long delayMs, Exception e) {
+        backoffTimer.withTag("operation", operationName).record(delayMs, TimeUnit.MILLISECONDS);
+        log.warn(
+                "Retrying {} operation after attempt {} failed, next attempt in {}ms: {}",
+                operationName,
+                attempt + 1,
+                delayMs,
+                e.getMessage());
+    }
+
+    private record AsyncCall<T>(
+            Supplier<T> supplier,
+            String operationName,
+            boolean idempotent,
+            long startedAt,
+            CompletableFuture<T> result) {}
+
+    private static ExecutorService boundedPool(int threads, int queueCapacity) {
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(
+                threads,
+                threads,
+                60,
+                TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                daemonThreads("upstream-call-"));
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
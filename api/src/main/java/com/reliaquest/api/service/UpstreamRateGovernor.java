@@ -0,0 +1,172 @@
+package com.reliaquest.api.service;
+
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Client-side token bucket that paces calls to the mock API so we stay under its request budget instead of
+ * discovering it through 429s.
+ *
+ * <p>Nothing is paced until the first 429. At that point the number of calls admitted since the last recovery becomes
+ * the learned budget (the bucket capacity), and the governor stops sending apart from single probe calls. The first
+ * probe that succeeds ends the lockout (calls sent before the 429 that succeed after it do not): the time since the 429 becomes the learned cooldown, and the bucket refills
+ * at {@code budget / cooldown}. A {@code Retry-After} header, when the upstream sends one, overrides the probe
+ * schedule.
+ */
+@Component
+public class UpstreamRateGovernor {
+
+    private static final Logger log = LoggerFactory.getLogger(UpstreamRateGovernor.class);
+
+    private final long minProbeIntervalMs;
+    private final long maxProbeIntervalMs;
+    private final Clock clock;
+
+    private int budget;
+    private long cooldownMs;
+    private double tokens;
+    private long lastRefillMs;
+    private int admittedSinceRecovery;
+
+    private boolean throttled;
+    private long throttledSinceMs;
+    private long nextProbeAtMs;
+    private long probeDelayMs;
+    private boolean probeInFlight;
+
+    @Autowired
+    public UpstreamRateGovernor(
+            @Value("${rate-limit.min-probe-interval-ms:1000}") long minProbeIntervalMs,
+            @Value("${rate-limit.max-probe-interval-ms:90000}") long maxProbeIntervalMs) {
+        this(minProbeIntervalMs, maxProbeIntervalMs, Clock.systemUTC());
+    }
+
+    public UpstreamRateGovernor(long minProbeIntervalMs, long maxProbeIntervalMs, Clock clock) {
+        this.minProbeIntervalMs = minProbeIntervalMs;
+        this.maxProbeIntervalMs = maxProbeIntervalMs;
+        this.clock = clock;
+    }
+
+    /**
+     * Waits up to {@code maxWaitMs} for permission to send one upstream call.
+     *
+     * @return {@code false} if no permit became available before the deadline
+     */
+    public boolean acquire(long maxWaitMs) throws InterruptedException {
+        long deadline = clock.millis() + maxWaitMs;
+        while (true) {
+            long waitMs = tryAcquire();
+            if (waitMs == 0) {
+                return true;
+            }
+            long remaining = deadline - clock.millis();
+            if (waitMs > remaining) {
+                return false;
+            }
+            TimeUnit.MILLISECONDS.sleep(waitMs);
+        }
+    }
+
+    /**
+     * Takes a permit if one is available right now.
+     *
+     * @return {@code 0} if the call may proceed, otherwise the number of milliseconds until one might be available
+     */
+    public synchronized long tryAcquire() {
+        long now = clock.millis();
+        if (throttled) {
+            if (!probeInFlight && now >= nextProbeAtMs) {
+                probeInFlight = true;
+                return 0;
+            }
+            return Math.max(1, probeInFlight ? minProbeIntervalMs : nextProbeAtMs - now);
+        }
+        if (budget == 0) {
+            admittedSinceRecovery++;
+            return 0;
+        }
+
+        refill(now);
+        if (tokens >= 1) {
+            tokens -= 1;
+            admittedSinceRecovery++;
+            return 0;
+        }
+        return Math.max(1, (long) Math.ceil((1 - tokens) * cooldownMs / budget));
+    }
+
+    /**
+     * Records a successful call. While throttled, only the probe's success ends the lockout: a call admitted before
+     * the 429 that succeeds after it says nothing about the upstream's cooldown, and would teach a near-zero one.
+     */
+    public synchronized void onSuccess() {
+        if (!throttled || !probeInFlight) {
+            return;
+        }
+        long now = clock.millis();
+        cooldownMs = Math.max(1, now - throttledSinceMs);
+        throttled = false;
+        probeInFlight = false;
+        admittedSinceRecovery = 1;
+        tokens = budget - 1;
+        lastRefillMs = now;
+        log.info("Upstream recovered; learned budget {} requests per {}ms cooldown", budget, cooldownMs);
+    }
+
+    /**
+     * Records a 429 from the upstream.
+     *
+     * @param retryAfterMs delay advertised by the upstream, or {@code null} if it sent none
+     */
+    public synchronized void onThrottled(Long retryAfterMs) {
+        long now = clock.millis();
+        if (!throttled) {
+            throttled = true;
+            throttledSinceMs = now;
+            budget = Math.max(1, admittedSinceRecovery);
+            tokens = 0;
+            probeDelayMs = cooldownMs > 0 ? cooldownMs * 3 / 4 : minProbeIntervalMs;
+            log.warn("Upstream throttled after {} requests; pausing outgoing calls", budget);
+        } else {
+            probeDelayMs = cooldownMs > 0
+                    ? Math.max(minProbeIntervalMs, cooldownMs / 8)
+                    : Math.min(probeDelayMs * 2, maxProbeIntervalMs);
+        }
+        probeInFlight = false;
+        nextProbeAtMs = now + (retryAfterMs != null ? retryAfterMs : probeDelayMs);
+    }
+
+    /**
+     * Records a failure that says nothing about the request budget, releasing the probe slot if this was a probe.
+     */
+    public synchronized void onError() {
+        if (throttled && probeInFlight) {
+            probeInFlight = false;
+            nextProbeAtMs = clock.millis() + minProbeIntervalMs;
+        }
+    }
+
+    public synchronized int getLearnedBudget() {
+        return budget;
+    }
+
+    public synchronized long getLearnedCooldownMs() {
+        return cooldownMs;
+    }
+
+    public synchronized boolean isThrottled() {
+        return throttled;
+    }
+
+    private void refill(long now) {
+        if (now > lastRefillMs) {
+            tokens = Math.min(budget, tokens + (double) (now - lastRefillMs) * budget / cooldownMs);
+            lastRefillMs = now;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.reliaquest.api.service;
+
+/**
+ * Thrown when a call to the mock API is not attempted because the upstream is known to be unavailable, for example
+ * while we are waiting out its rate limit.
+ */
+public class UpstreamUnavailableException extends RuntimeException {
+
+    public UpstreamUnavailableException(String message) {
+        super(message);
+    }
+}
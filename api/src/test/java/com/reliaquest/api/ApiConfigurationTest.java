@@ -0,0 +1,128 @@
+package com.reliaquest.api;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.config.ApiConfiguration;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+class ApiConfigurationTest {
+
+    private final ApiConfiguration configuration = new ApiConfiguration();
+    private final AtomicReference<String> acceptEncoding = new AtomicReference<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private HttpServer server;
+    private CloseableHttpClient httpClient;
+    private RestTemplate restTemplate;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/gzip", exchange -> {
+            acceptEncoding.set(exchange.getRequestHeaders().getFirst("Accept-Encoding"));
+            byte[] body = gzip("{\"status\":\"Successfully processed request.\"}");
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.createContext("/slow", exchange -> {
+            try {
+                Thread.sleep(2_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.start();
+
+        httpClient = configuration.upstreamHttpClient(10, 5, 500, 300, 500, 30_000, 60_000, true);
+        restTemplate = configuration.restTemplate(httpClient, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        httpClient.close();
+        server.stop(0);
+    }
+
+    @Test
+    void restTemplate_ShouldRequestAndDecodeGzipResponses() {
+        // When
+        String body = restTemplate.getForObject(url("/gzip"), String.class);
+
+        // Then
+        assertEquals("{\"status\":\"Successfully processed request.\"}", body);
+        assertNotNull(acceptEncoding.get());
+        assertTrue(acceptEncoding.get().contains("gzip"));
+    }
+
+    @Test
+    void restTemplate_ShouldRecordTimeToHeadersBodyReadAndDecodedSize() {
+        // When
+        restTemplate.getForObject(url("/gzip"), String.class);
+
+        // Then
+        assertEquals(
+                1,
+                meterRegistry
+                        .get("upstream.http.requests")
+                        .tags("method", "GET", "uri", "/gzip", "status", "200")
+                        .timer()
+                        .count());
+        assertEquals(
+                1,
+                meterRegistry
+                        .get("upstream.http.response.read")
+                        .tags("method", "GET", "uri", "/gzip")
+                        .timer()
+                        .count());
+        assertEquals(
+                "{\"status\":\"Successfully processed request.\"}".length(),
+                meterRegistry
+                        .get("upstream.http.response.size")
+                        .tags("method", "GET", "uri", "/gzip")
+                        .summary()
+                        .totalAmount());
+    }
+
+    @Test
+    void restTemplate_ShouldFailFast_WhenUpstreamHangs() {
+        // When
+        long start = System.nanoTime();
+        assertThrows(ResourceAccessException.class, () -> restTemplate.getForObject(url("/slow"), String.class));
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        // Then
+        assertTrue(elapsedMs < 1_500, "read timeout should cut the call short, took " + elapsedMs + "ms");
+    }
+
+    private String url(String path) {
+        return "http://localhost:" + server.getAddress().getPort() + path;
+    }
+
+    private static byte[] gzip(String value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(value.getBytes(StandardCharsets.UTF_8));
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -3,10 +3,12 @@ package com.reliaquest.api;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import com.reliaquest.api.controller.EmployeeAsyncController;
 import com.reliaquest.api.controller.EmployeeController;
 import com.reliaquest.api.model.CreateEmployeeInput;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.service.EmployeeService;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -138,4 +140,40 @@ class CreateEmployeeTest {
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
         verify(employeeService, never()).createEmployee(any());
     }
+
+    @Test
+    void createEmployee_ShouldRejectTheSameInputs_InBothControllers() {
+        // Given
+        EmployeeAsyncController asyncController = new EmployeeAsyncController(employeeService);
+        List<CreateEmployeeInput> invalidInputs = List.of(
+                new CreateEmployeeInput(" ", 50_000, 30, "Engineer"),
+                new CreateEmployeeInput("Name", 0, 30, "Engineer"),
+                new CreateEmployeeInput("Name", 50_000, null, "Engineer"),
+                new CreateEmployeeInput("Name", 50_000, 15, "Engineer"),
+                new CreateEmployeeInput("Name", 50_000, 76, "Engineer"),
+                new CreateEmployeeInput("Name", 50_000, 30, ""));
+
+        for (CreateEmployeeInput input : invalidInputs) {
+            // When
+            ResponseEntity<Employee> response = employeeController.createEmployee(input);
+            ResponseEntity<Employee> asyncResponse =
+                    asyncController.createEmployee(input).join();
+
+            // Then
+            assertNotNull(CreateEmployeeInput.invalidReason(input));
+            assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+            assertEquals(HttpStatus.BAD_REQUEST, asyncResponse.getStatusCode());
+        }
+        verifyNoInteractions(employeeService);
+    }
+
+    @Test
+    void invalidReason_ShouldAcceptTheAgesTheMockApiAccepts() {
+        // When / Then
+        assertNull(CreateEmployeeInput.invalidReason(new CreateEmployeeInput("Name", 50_000, 16, "Engineer")));
+        assertNull(CreateEmployeeInput.invalidReason(new CreateEmployeeInput("Name", 50_000, 75, "Engineer")));
+        assertEquals(
+                "age must be between 16 and 75",
+                CreateEmployeeInput.invalidReason(new CreateEmployeeInput("Name", 50_000, 15, "Engineer")));
+    }
 }
@@ -0,0 +1,122 @@
+package com.reliaquest.api;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.service.DefaultRetryPolicy;
+import com.reliaquest.api.service.RetryPolicy;
+import com.reliaquest.api.service.UpstreamUnavailableException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+class DefaultRetryPolicyTest {
+
+    private final DefaultRetryPolicy policy = new DefaultRetryPolicy(5, 100, 2_000, 10_000);
+
+    @Test
+    void isRetryable_ShouldNotRetryNotFound_EvenIfBodyMentions500() {
+        // Given
+        HttpClientErrorException notFound = HttpClientErrorException.create(
+                HttpStatus.NOT_FOUND, "Not Found", null, "salary 500".getBytes(StandardCharsets.UTF_8), null);
+
+        // When / Then
+        assertFalse(policy.isRetryable(notFound, true));
+        assertFalse(policy.isRetryable(new RuntimeException("Failed via mock server", notFound), true));
+    }
+
+    @Test
+    void isRetryable_ShouldAlwaysRetryTooManyRequests() {
+        // Given
+        HttpClientErrorException tooManyRequests = status(HttpStatus.TOO_MANY_REQUESTS, null);
+
+        // When / Then
+        assertTrue(policy.isRetryable(tooManyRequests, true));
+        assertTrue(policy.isRetryable(tooManyRequests, false));
+    }
+
+    @Test
+    void isRetryable_ShouldRetryServerErrors_OnlyWhenIdempotent() {
+        // Given
+        HttpServerErrorException unavailable =
+                HttpServerErrorException.create(HttpStatus.SERVICE_UNAVAILABLE, "Unavailable", null, null, null);
+
+        // When / Then
+        assertTrue(policy.isRetryable(unavailable, true));
+        assertFalse(policy.isRetryable(unavailable, false));
+    }
+
+    @Test
+    void isRetryable_ShouldRetryReadTimeouts_OnlyWhenIdempotent() {
+        // Given
+        ResourceAccessException readTimeout =
+                new ResourceAccessException("I/O error", new SocketTimeoutException("Read timed out"));
+
+        // When / Then
+        assertTrue(policy.isRetryable(readTimeout, true));
+        assertFalse(policy.isRetryable(readTimeout, false));
+    }
+
+    @Test
+    void isRetryable_ShouldRetryConnectFailures_EvenWhenNotIdempotent() {
+        // Given
+        ResourceAccessException refused =
+                new ResourceAccessException("I/O error", new ConnectException("Connection refused"));
+
+        // When / Then
+        assertTrue(policy.isRetryable(refused, false));
+    }
+
+    @Test
+    void isRetryable_ShouldNotRetryUnclassifiedFailures() {
+        // When / Then
+        assertFalse(policy.isRetryable(new RuntimeException("rate limit 429 500"), true));
+        assertFalse(policy.isRetryable(new UpstreamUnavailableException("budget exhausted"), true));
+    }
+
+    @Test
+    void nextDelayMs_ShouldHonourRetryAfter() {
+        // Given
+        HttpHeaders headers = new HttpHeaders();
+        headers.add("Retry-After", "3");
+
+        // When
+        long delayMs = policy.nextDelayMs(status(HttpStatus.TOO_MANY_REQUESTS, headers), 0, 0, 0, true);
+
+        // Then
+        assertEquals(3_000, delayMs);
+    }
+
+    @Test
+    void nextDelayMs_ShouldJitterBetweenBaseAndThreeTimesPreviousDelay() {
+        // Given
+        HttpClientErrorException tooManyRequests = status(HttpStatus.TOO_MANY_REQUESTS, null);
+
+        // When / Then
+        assertEquals(100, policy.nextDelayMs(tooManyRequests, 0, 0, 0, true));
+        for (int i = 0; i < 100; i++) {
+            long delayMs = policy.nextDelayMs(tooManyRequests, 1, 400, 0, true);
+            assertTrue(delayMs >= 100 && delayMs <= 1_200, "delay out of range: " + delayMs);
+            assertTrue(policy.nextDelayMs(tooManyRequests, 2, 1_500, 0, true) <= 2_000);
+        }
+    }
+
+    @Test
+    void nextDelayMs_ShouldGiveUp_WhenAttemptsOrTimeBudgetExhausted() {
+        // Given
+        HttpClientErrorException tooManyRequests = status(HttpStatus.TOO_MANY_REQUESTS, null);
+
+        // When / Then
+        assertEquals(RetryPolicy.GIVE_UP, policy.nextDelayMs(tooManyRequests, 5, 100, 0, true));
+        assertEquals(RetryPolicy.GIVE_UP, policy.nextDelayMs(tooManyRequests, 1, 100, 9_950, true));
+    }
+
+    private static HttpClientErrorException status(HttpStatus status, HttpHeaders headers) {
+        return HttpClientErrorException.create(status, status.getReasonPhrase(), headers, null, null);
+    }
+}
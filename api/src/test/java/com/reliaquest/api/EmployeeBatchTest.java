@@ -0,0 +1,234 @@
+package com.reliaquest.api;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.controller.EmployeeController;
+import com.reliaquest.api.model.CreateEmployeeInput;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeBatchResult;
+import com.reliaquest.api.service.EmployeeRosterCache;
+import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.service.SingleFlight;
+import com.reliaquest.api.service.UpstreamExecutor;
+import com.reliaquest.api.service.UpstreamRateGovernor;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeBatchTest {
+
+    private static final String BASE_URL = "http://localhost:8112";
+    private static final String BATCH_URL = BASE_URL + "/api/v1/employee/batch";
+
+    @Mock
+    private RestTemplate restTemplate;
+
+    private EmployeeRosterCache cache;
+    private UpstreamExecutor executor;
+    private EmployeeService service;
+
+    @BeforeEach
+    void setUp() {
+        cache = new EmployeeRosterCache(60_000, 0, 0, 0, new TestClock(new AtomicLong(1_000)), Runnable::run);
+        executor = new UpstreamExecutor(new UpstreamRateGovernor(1, 1), 0, 1, 1, 0);
+        service = new EmployeeService(restTemplate, cache, new SingleFlight(), executor, BASE_URL, true, 4, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void createEmployees_ShouldChunkAndReturnOneResultPerInputInOrder() {
+        // Given
+        List<CreateEmployeeInput> inputs = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            inputs.add(new CreateEmployeeInput("Batch " + i, 50_000 + i, 30, "Engineer"));
+        }
+        List<Integer> chunkSizes = Collections.synchronizedList(new ArrayList<>());
+        when(restTemplate.postForObject(eq(BATCH_URL), any(), eq(EmployeeService.MockBatchResponse.class)))
+                .thenAnswer(invocation -> {
+                    List<CreateEmployeeInput> chunk = invocation.getArgument(1);
+                    chunkSizes.add(chunk.size());
+                    List<EmployeeBatchResult> results = new ArrayList<>();
+                    for (int i = 0; i < chunk.size(); i++) {
+                        CreateEmployeeInput input = chunk.get(i);
+                        results.add(EmployeeBatchResult.succeeded(
+                                i,
+                                new Employee(
+                                        UUID.randomUUID().toString(),
+                                        input.getName(),
+                                        input.getSalary(),
+                                        input.getAge(),
+                                        input.getTitle(),
+                                        null)));
+                    }
+                    return batchResponse(results);
+                });
+        cache.get(() -> new ArrayList<>());
+
+        // When
+        List<EmployeeBatchResult> results = service.createEmployees(inputs);
+
+        // Then
+        chunkSizes.sort(null);
+        assertEquals(List.of(2, 4, 4), chunkSizes);
+        assertEquals(10, results.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, results.get(i).getIndex());
+            assertNull(results.get(i).getError());
+            assertEquals("Batch " + i, results.get(i).getData().getEmployeeName());
+        }
+        assertEquals(10, cache.peek().orElseThrow().getEmployees().size());
+    }
+
+    @Test
+    void createEmployees_ShouldFailOnlyTheItemsOfAFailedChunk() {
+        // Given
+        List<CreateEmployeeInput> inputs = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            inputs.add(new CreateEmployeeInput("Batch " + i, 50_000, 30, "Engineer"));
+        }
+        AtomicInteger calls = new AtomicInteger();
+        when(restTemplate.postForObject(eq(BATCH_URL), any(), eq(EmployeeService.MockBatchResponse.class)))
+                .thenAnswer(invocation -> {
+                    List<CreateEmployeeInput> chunk = invocation.getArgument(1);
+                    if (chunk.get(0).getName().equals("Batch 4")) {
+                        throw new IllegalStateException("boom");
+                    }
+                    calls.incrementAndGet();
+                    List<EmployeeBatchResult> results = new ArrayList<>();
+                    for (int i = 0; i < chunk.size(); i++) {
+                        results.add(EmployeeBatchResult.succeeded(
+                                i,
+                                new Employee(
+                                        UUID.randomUUID().toString(),
+                                        chunk.get(i).getName(),
+                                        1,
+                                        30,
+                                        "",
+                                        null)));
+                    }
+                    return batchResponse(results);
+                });
+
+        // When
+        List<EmployeeBatchResult> results = service.createEmployees(inputs);
+
+        // Then
+        assertEquals(1, calls.get());
+        for (int i = 0; i < 8; i++) {
+            assertEquals(i, results.get(i).getIndex());
+            assertEquals(i < 4, results.get(i).getError() == null, "item " + i);
+        }
+    }
+
+    @Test
+    void deleteEmployeesById_ShouldUpdateCacheWithDeletedEmployees() {
+        // Given
+        Employee kept = new Employee(UUID.randomUUID().toString(), "Kept", 1, 30, "Engineer", null);
+        Employee deleted = new Employee(UUID.randomUUID().toString(), "Deleted", 1, 30, "Engineer", null);
+        cache.get(() -> List.of(kept, deleted));
+        String missing = UUID.randomUUID().toString();
+        when(restTemplate.exchange(
+                        eq(BATCH_URL),
+                        eq(HttpMethod.DELETE),
+                        any(HttpEntity.class),
+                        eq(EmployeeService.MockBatchResponse.class)))
+                .thenReturn(ResponseEntity.ok(batchResponse(List.of(
+                        EmployeeBatchResult.succeeded(0, deleted),
+                        EmployeeBatchResult.failed(1, "Not found: " + missing)))));
+
+        // When
+        List<EmployeeBatchResult> results = service.deleteEmployeesById(List.of(deleted.getId(), missing));
+
+        // Then
+        assertEquals(deleted.getId(), results.get(0).getData().getId());
+        assertNotNull(results.get(1).getError());
+        assertEquals(List.of(kept), cache.peek().orElseThrow().getEmployees());
+    }
+
+    @Test
+    void createEmployees_ShouldReportInvalidInputsAtTheirIndexWithoutSendingThem() {
+        // Given
+        EmployeeService employeeService = mock(EmployeeService.class);
+        EmployeeController controller = new EmployeeController(employeeService, new ObjectMapper());
+        CreateEmployeeInput first = new CreateEmployeeInput("First", 1, 30, "Engineer");
+        CreateEmployeeInput invalid = new CreateEmployeeInput("", 1, 30, "Engineer");
+        CreateEmployeeInput last = new CreateEmployeeInput("Last", 1, 30, "Engineer");
+        Employee lastCreated = new Employee("id-last", "Last", 1, 30, "Engineer", null);
+        when(employeeService.createEmployees(List.of(first, last)))
+                .thenReturn(List.of(
+                        EmployeeBatchResult.failed(0, "Upstream request failed"),
+                        EmployeeBatchResult.succeeded(1, lastCreated)));
+
+        // When
+        ResponseEntity<List<EmployeeBatchResult>> response = controller.createEmployees(List.of(first, invalid, last));
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        List<EmployeeBatchResult> results = response.getBody();
+        assertEquals(
+                List.of(0, 1, 2),
+                results.stream().map(EmployeeBatchResult::getIndex).toList());
+        assertEquals("Upstream request failed", results.get(0).getError());
+        assertEquals("name must not be blank", results.get(1).getError());
+        assertEquals(lastCreated, results.get(2).getData());
+    }
+
+    @Test
+    void batchEndpoints_ShouldReturnBadRequest_ForEmptyBatches() {
+        // Given
+        EmployeeService employeeService = mock(EmployeeService.class);
+        EmployeeController controller = new EmployeeController(employeeService, new ObjectMapper());
+
+        // When / Then
+        assertEquals(
+                HttpStatus.BAD_REQUEST, controller.createEmployees(List.of()).getStatusCode());
+        assertEquals(
+                HttpStatus.BAD_REQUEST, controller.deleteEmployeesById(null).getStatusCode());
+        verifyNoInteractions(employeeService);
+    }
+
+    @Test
+    void batchEndpoints_ShouldReturnBadRequest_ForBatchesOverTheMockApiCap() {
+        // Given
+        EmployeeService employeeService = mock(EmployeeService.class);
+        EmployeeController controller = new EmployeeController(employeeService, new ObjectMapper());
+        List<CreateEmployeeInput> inputs =
+                Collections.nCopies(1001, new CreateEmployeeInput("Batch", 50_000, 30, "Engineer"));
+        List<String> ids = Collections.nCopies(1001, UUID.randomUUID().toString());
+
+        // When / Then
+        assertEquals(HttpStatus.BAD_REQUEST, controller.createEmployees(inputs).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, controller.deleteEmployeesById(ids).getStatusCode());
+        verify(employeeService, never()).createEmployees(any());
+        verify(employeeService, never()).deleteEmployeesById(any());
+    }
+
+    private static EmployeeService.MockBatchResponse batchResponse(List<EmployeeBatchResult> results) {
+        EmployeeService.MockBatchResponse response = new EmployeeService.MockBatchResponse();
+        response.setData(results);
+        return response;
+    }
+}
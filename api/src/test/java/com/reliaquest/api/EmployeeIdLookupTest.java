@@ -0,0 +1,270 @@
+package com.reliaquest.api;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.DefaultRetryPolicy;
+import com.reliaquest.api.service.EmployeeRosterCache;
+import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.service.SingleFlight;
+import com.reliaquest.api.service.UpstreamCircuitBreaker;
+import com.reliaquest.api.service.UpstreamExecutor;
+import com.reliaquest.api.service.UpstreamRateGovernor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeIdLookupTest {
+
+    private static final String BASE_URL = "http://localhost:8112";
+    private static final String KNOWN_ID = "5255f1a5-f9f7-4be5-829a-134bde088d17";
+    private static final String OTHER_ID = "d005f39a-beb8-4390-afec-fd54e91d94ee";
+
+    @Mock
+    private RestTemplate restTemplate;
+
+    private final AtomicLong now = new AtomicLong(1_000);
+
+    private EmployeeRosterCache cache;
+    private EmployeeService service;
+
+    @BeforeEach
+    void setUp() {
+        cache = new EmployeeRosterCache(60_000, 0, 500, 0, new TestClock(now), Runnable::run);
+        service = new EmployeeService(
+                restTemplate,
+                cache,
+                new SingleFlight(),
+                new UpstreamExecutor(new UpstreamRateGovernor(1, 1), 0, 1, 1, 0),
+                BASE_URL);
+    }
+
+    @Test
+    void getEmployeeById_ShouldUseIdIndex_WhenSnapshotContainsEmployee() {
+        // Given
+        EmployeeService.MockApiResponse roster = new EmployeeService.MockApiResponse();
+        roster.setData(List.of(employee(KNOWN_ID, "Bill Bob")));
+        when(restTemplate.exchange(
+                        eq(BASE_URL + "/api/v1/employee"),
+                        eq(HttpMethod.GET),
+                        any(HttpEntity.class),
+                        eq(EmployeeService.MockApiResponse.class)))
+                .thenReturn(ResponseEntity.ok(roster));
+        service.getAllEmployees();
+
+        // When
+        Employee employee = service.getEmployeeById(KNOWN_ID);
+
+        // Then
+        assertEquals("Bill Bob", employee.getEmployeeName());
+        verify(restTemplate, never()).getForObject(anyString(), eq(EmployeeService.MockCreateResponse.class));
+    }
+
+    @Test
+    void getEmployeeById_ShouldCallSingleEmployeeEndpoint_WhenIdNotCached() {
+        // Given
+        EmployeeService.MockCreateResponse single = new EmployeeService.MockCreateResponse();
+        single.setData(employee(OTHER_ID, "Jill Jenkins"));
+        when(restTemplate.getForObject(
+                        BASE_URL + "/api/v1/employee/" + OTHER_ID, EmployeeService.MockCreateResponse.class))
+                .thenReturn(single);
+
+        // When
+        Employee employee = service.getEmployeeById(OTHER_ID);
+
+        // Then
+        assertEquals("Jill Jenkins", employee.getEmployeeName());
+        verify(restTemplate, never())
+                .exchange(
+                        anyString(),
+                        eq(HttpMethod.GET),
+                        any(HttpEntity.class),
+                        eq(EmployeeService.MockApiResponse.class));
+    }
+
+    @Test
+    void getEmployeeById_ShouldCacheNotFoundBriefly_WhenUpstreamReturns404() {
+        // Given
+        when(restTemplate.getForObject(
+                        BASE_URL + "/api/v1/employee/" + OTHER_ID, EmployeeService.MockCreateResponse.class))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null));
+
+        // When
+        Employee first = service.getEmployeeById(OTHER_ID);
+        Employee second = service.getEmployeeById(OTHER_ID);
+        now.addAndGet(1_000);
+        Employee afterTtl = service.getEmployeeById(OTHER_ID);
+
+        // Then
+        assertNull(first);
+        assertNull(second);
+        assertNull(afterTtl);
+        verify(restTemplate, times(2))
+                .getForObject(BASE_URL + "/api/v1/employee/" + OTHER_ID, EmployeeService.MockCreateResponse.class);
+    }
+
+    @Test
+    void getEmployeeById_ShouldSkipUpstream_WhenIdIsNotUuid() {
+        // When
+        Employee employee = service.getEmployeeById("999");
+
+        // Then
+        assertNull(employee);
+        verifyNoInteractions(restTemplate);
+    }
+
+    @Test
+    void deleteEmployeeById_ShouldResolveNameFromIdIndex_AndUpdateSnapshot() {
+        // Given
+        EmployeeService.MockApiResponse roster = new EmployeeService.MockApiResponse();
+        roster.setData(List.of(employee(KNOWN_ID, "Bill Bob"), employee(OTHER_ID, "Jill Jenkins")));
+        when(restTemplate.exchange(
+                        eq(BASE_URL + "/api/v1/employee"),
+                        eq(HttpMethod.GET),
+                        any(HttpEntity.class),
+                        eq(EmployeeService.MockApiResponse.class)))
+                .thenReturn(ResponseEntity.ok(roster));
+        service.getAllEmployees();
+
+        // When
+        String result = service.deleteEmployeeById(KNOWN_ID);
+
+        // Then
+        assertEquals("Employee deleted successfully", result);
+        verify(restTemplate, never()).getForObject(anyString(), eq(EmployeeService.MockCreateResponse.class));
+        verify(restTemplate, times(1))
+                .exchange(
+                        eq(BASE_URL + "/api/v1/employee"),
+                        eq(HttpMethod.DELETE),
+                        any(HttpEntity.class),
+                        eq(String.class));
+        assertNull(service.getEmployeeById(KNOWN_ID));
+        assertEquals(1, service.getAllEmployees().size());
+    }
+
+    @Test
+    void deleteEmployeeById_ShouldResolveOnceAcrossRetries_WhenDeleteIsRateLimited() {
+        // Given
+        EmployeeService retrying = new EmployeeService(
+                restTemplate,
+                cache,
+                new SingleFlight(),
+                new UpstreamExecutor(new UpstreamRateGovernor(1, 1), 3, 1, 1, 1_000),
+                BASE_URL);
+        EmployeeService.MockCreateResponse single = new EmployeeService.MockCreateResponse();
+        single.setData(employee(OTHER_ID, "Jill Jenkins"));
+        when(restTemplate.getForObject(
+                        BASE_URL + "/api/v1/employee/" + OTHER_ID, EmployeeService.MockCreateResponse.class))
+                .thenReturn(single);
+        when(restTemplate.exchange(
+                        eq(BASE_URL + "/api/v1/employee"),
+                        eq(HttpMethod.DELETE),
+                        any(HttpEntity.class),
+                        eq(String.class)))
+                .thenThrow(HttpClientErrorException.create(
+                        HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", null, null, null))
+                .thenReturn(ResponseEntity.ok("true"));
+
+        // When
+        String result = retrying.deleteEmployeeById(OTHER_ID);
+
+        // Then
+        assertEquals("Employee deleted successfully", result);
+        verify(restTemplate, times(1))
+                .getForObject(BASE_URL + "/api/v1/employee/" + OTHER_ID, EmployeeService.MockCreateResponse.class);
+        verify(restTemplate, times(2))
+                .exchange(
+                        eq(BASE_URL + "/api/v1/employee"),
+                        eq(HttpMethod.DELETE),
+                        any(HttpEntity.class),
+                        eq(String.class));
+    }
+
+    @Test
+    void deleteEmployeeByIdAsync_ShouldTakeAPermitPerUpstreamCall_WhenNameIsLookedUp() throws Exception {
+        // Given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        UpstreamExecutor executor = new UpstreamExecutor(
+                new UpstreamRateGovernor(1, 1),
+                new DefaultRetryPolicy(3, 1, 1, 60_000),
+                new UpstreamCircuitBreaker(20, 10, 101, 60_000, 101, 30_000, 2, Clock.systemUTC()),
+                1_000,
+                1,
+                10,
+                false,
+                meterRegistry);
+        EmployeeService retrying = new EmployeeService(restTemplate, cache, new SingleFlight(), executor, BASE_URL);
+        EmployeeService.MockCreateResponse single = new EmployeeService.MockCreateResponse();
+        single.setData(employee(OTHER_ID, "Jill Jenkins"));
+        when(restTemplate.getForObject(
+                        BASE_URL + "/api/v1/employee/" + OTHER_ID, EmployeeService.MockCreateResponse.class))
+                .thenReturn(single);
+        when(restTemplate.exchange(
+                        eq(BASE_URL + "/api/v1/employee"),
+                        eq(HttpMethod.DELETE),
+                        any(HttpEntity.class),
+                        eq(String.class)))
+                .thenThrow(HttpClientErrorException.create(
+                        HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", null, null, null))
+                .thenReturn(ResponseEntity.ok("true"));
+
+        // When
+        String result;
+        try {
+            result = retrying.deleteEmployeeByIdAsync(OTHER_ID).get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdown();
+        }
+
+        // Then
+        assertEquals("Employee deleted successfully", result);
+        verify(restTemplate, times(1))
+                .getForObject(BASE_URL + "/api/v1/employee/" + OTHER_ID, EmployeeService.MockCreateResponse.class);
+        assertEquals(
+                1,
+                meterRegistry
+                        .get("upstream.permit.wait")
+                        .tag("operation", "getEmployeeById")
+                        .timer()
+                        .count());
+        assertEquals(
+                2,
+                meterRegistry
+                        .get("upstream.permit.wait")
+                        .tag("operation", "deleteEmployeeById")
+                        .timer()
+                        .count());
+    }
+
+    @Test
+    void deleteEmployeeById_ShouldFailWithoutDeleting_WhenEmployeeDoesNotExist() {
+        // Given
+        when(restTemplate.getForObject(
+                        BASE_URL + "/api/v1/employee/" + OTHER_ID, EmployeeService.MockCreateResponse.class))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null));
+
+        // When / Then
+        assertThrows(RuntimeException.class, () -> service.deleteEmployeeById(OTHER_ID));
+        verify(restTemplate, never())
+                .exchange(anyString(), eq(HttpMethod.DELETE), any(HttpEntity.class), eq(String.class));
+    }
+
+    private static Employee employee(String id, String name) {
+        return new Employee(id, name, 89750, 24, "Documentation Engineer", "employee@company.com");
+    }
+}
@@ -0,0 +1,167 @@
+package com.reliaquest.api;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.controller.EmployeeController;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeePage;
+import com.reliaquest.api.service.EmployeeRosterCache;
+import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.service.SingleFlight;
+import com.reliaquest.api.service.UpstreamExecutor;
+import com.reliaquest.api.service.UpstreamRateGovernor;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeePaginationTest {
+
+    private static final String BASE_URL = "http://localhost:8112";
+
+    @Mock
+    private RestTemplate restTemplate;
+
+    private final List<Employee> roster = new ArrayList<>();
+    private EmployeeRosterCache cache;
+    private UpstreamExecutor executor;
+    private EmployeeService service;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 25; i++) {
+            roster.add(employee("Employee " + i));
+        }
+        EmployeeService.MockApiResponse response = new EmployeeService.MockApiResponse();
+        response.setData(roster);
+        lenient()
+                .when(restTemplate.exchange(
+                        eq(BASE_URL + "/api/v1/employee"),
+                        eq(HttpMethod.GET),
+                        any(HttpEntity.class),
+                        eq(EmployeeService.MockApiResponse.class)))
+                .thenReturn(ResponseEntity.ok(response));
+
+        cache = new EmployeeRosterCache(60_000, 0, 0, 0, new TestClock(new AtomicLong(1_000)), Runnable::run);
+        executor = new UpstreamExecutor(new UpstreamRateGovernor(1, 1), 0, 1, 1, 0);
+        service = new EmployeeService(restTemplate, cache, new SingleFlight(), executor, BASE_URL);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void getEmployeePage_ShouldWalkWholeRosterInIdOrder() {
+        // When
+        List<String> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            EmployeePage page = service.getEmployeePage(cursor, 10);
+            page.getEmployees().forEach(employee -> seen.add(employee.getId()));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        // Then
+        assertEquals(3, pages);
+        assertEquals(sortedIds(roster), seen);
+    }
+
+    @Test
+    void getEmployeePage_ShouldNeitherSkipNorRepeat_WhenRosterChangesBetweenPages() {
+        // Given
+        EmployeePage first = service.getEmployeePage(null, 10);
+        List<String> ids = sortedIds(roster);
+
+        // When: an employee already served is deleted and two new ones arrive
+        Employee served = first.getEmployees().get(3);
+        cache.onEmployeeDeleted(served.getId(), served.getEmployeeName());
+        Employee early = new Employee("00000000-0000-0000-0000-000000000000", "Early", 1, 30, "Engineer", null);
+        Employee late = new Employee("ffffffff-ffff-ffff-ffff-ffffffffffff", "Late", 1, 30, "Engineer", null);
+        cache.onEmployeeCreated(early);
+        cache.onEmployeeCreated(late);
+        EmployeePage second = service.getEmployeePage(first.getNextCursor(), 10);
+
+        // Then: the next page starts right after the last id served, and new ids land where they sort
+        assertEquals(ids.subList(10, 20), idsOf(second.getEmployees()));
+        EmployeePage last = service.getEmployeePage(second.getNextCursor(), 10);
+        List<String> expected = new ArrayList<>(ids.subList(20, 25));
+        expected.add(late.getId());
+        assertEquals(expected, idsOf(last.getEmployees()));
+        assertNull(last.getNextCursor());
+    }
+
+    @Test
+    void getEmployeePage_ShouldReturnBadRequest_ForForeignCursorOrLimit() {
+        // Given
+        EmployeeController controller = new EmployeeController(service, new ObjectMapper());
+
+        // When / Then
+        assertEquals(
+                HttpStatus.BAD_REQUEST,
+                controller.getEmployeePage("not a cursor!", 10).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, controller.getEmployeePage(null, 0).getStatusCode());
+        assertEquals(
+                HttpStatus.BAD_REQUEST, controller.getEmployeePage(null, 5_000).getStatusCode());
+        assertEquals(HttpStatus.OK, controller.getEmployeePage(null, 1_000).getStatusCode());
+    }
+
+    @Test
+    void streamAllEmployees_ShouldWriteOneEmployeePerLine() throws Exception {
+        // Given
+        ObjectMapper objectMapper = new ObjectMapper();
+        EmployeeController controller = new EmployeeController(service, objectMapper);
+
+        // When
+        ResponseEntity<StreamingResponseBody> response = controller.streamAllEmployees();
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        response.getBody().writeTo(body);
+
+        // Then
+        assertEquals(MediaType.APPLICATION_NDJSON, response.getHeaders().getContentType());
+        String ndjson = body.toString(StandardCharsets.UTF_8);
+        assertTrue(ndjson.endsWith("}\n"));
+        String[] lines = ndjson.split("\n");
+        assertEquals(roster.size(), lines.length);
+        for (int i = 0; i < lines.length; i++) {
+            assertTrue(lines[i].startsWith("{"), lines[i]);
+            Employee employee = objectMapper.readValue(lines[i], Employee.class);
+            assertEquals(roster.get(i).getId(), employee.getId());
+            assertEquals(roster.get(i).getEmployeeName(), employee.getEmployeeName());
+        }
+    }
+
+    private static Employee employee(String name) {
+        return new Employee(UUID.randomUUID().toString(), name, 50_000, 30, "Engineer", "employee@company.com");
+    }
+
+    private static List<String> sortedIds(List<Employee> employees) {
+        return employees.stream().map(Employee::getId).sorted().collect(Collectors.toList());
+    }
+
+    private static List<String> idsOf(List<Employee> employees) {
+        return employees.stream().map(Employee::getId).collect(Collectors.toList());
+    }
+}
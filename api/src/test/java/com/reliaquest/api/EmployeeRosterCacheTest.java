@@ -0,0 +1,478 @@
+package com.reliaquest.api;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.model.CreateEmployeeInput;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.EmployeeRosterCache;
+import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.service.RosterChange;
+import com.reliaquest.api.service.RosterFetch;
+import com.reliaquest.api.service.RosterSnapshot;
+import com.reliaquest.api.service.SingleFlight;
+import com.reliaquest.api.service.UpstreamExecutor;
+import com.reliaquest.api.service.UpstreamRateGovernor;
+import com.reliaquest.api.service.UpstreamUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeRosterCacheTest {
+
+    private static final String CHANGES_URL = "http://localhost:8112/api/v1/employee/changes?since={since}";
+
+    @Mock
+    private RestTemplate restTemplate;
+
+    private final AtomicLong now = new AtomicLong(1_000);
+    private final List<Runnable> backgroundTasks = new ArrayList<>();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private EmployeeRosterCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new EmployeeRosterCache(100, 1_000, 1_000, 10_000, new TestClock(now), backgroundTasks::add);
+    }
+
+    @Test
+    void get_ShouldServeFreshSnapshotWithoutReloading() {
+        // Given
+        RosterSnapshot first = cache.get(this::loadRoster);
+
+        // When
+        now.addAndGet(50);
+        RosterSnapshot second = cache.get(this::loadRoster);
+
+        // Then
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void get_ShouldCountReadsAndLoads() {
+        // Given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        cache = new EmployeeRosterCache(
+                100, 1_000, 1_000, 10_000, new TestClock(now), backgroundTasks::add, meterRegistry);
+
+        // When: a load, a fresh read, then a stale read whose refresh is answered "not modified"
+        cache.get(this::loadRoster);
+        cache.get(this::loadRoster);
+        now.addAndGet(500);
+        cache.getConditional(etag -> RosterFetch.notModified());
+        backgroundTasks.forEach(Runnable::run);
+
+        // Then
+        for (String result : List.of("load", "fresh", "stale")) {
+            assertEquals(
+                    1.0,
+                    meterRegistry
+                            .get("roster.cache.reads")
+                            .tag("result", result)
+                            .counter()
+                            .count(),
+                    result);
+        }
+        assertEquals(
+                1.0,
+                meterRegistry
+                        .get("roster.cache.loads")
+                        .tag("result", "modified")
+                        .counter()
+                        .count());
+        assertEquals(
+                1.0,
+                meterRegistry
+                        .get("roster.cache.loads")
+                        .tag("result", "not_modified")
+                        .counter()
+                        .count());
+        assertEquals(0.0, meterRegistry.get("roster.cache.age").timeGauge().value(TimeUnit.MILLISECONDS));
+        assertEquals(
+                cache.peek().orElseThrow().getEmployees().size(),
+                meterRegistry.get("roster.cache.size").gauge().value());
+    }
+
+    @Test
+    void get_ShouldServeStaleSnapshotAndRefreshInBackground_WhenWithinStaleWindow() {
+        // Given
+        RosterSnapshot first = cache.get(this::loadRoster);
+        now.addAndGet(500);
+
+        // When
+        RosterSnapshot stale = cache.get(this::loadRoster);
+        cache.get(this::loadRoster);
+
+        // Then
+        assertSame(first, stale);
+        assertEquals(1, backgroundTasks.size()); // only one refresh scheduled
+        backgroundTasks.get(0).run();
+        RosterSnapshot refreshed = cache.get(this::loadRoster);
+        assertTrue(refreshed.getVersion() > first.getVersion());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_ShouldLoadSynchronously_WhenPastStaleWindow() {
+        // Given
+        RosterSnapshot first = cache.get(this::loadRoster);
+        now.addAndGet(5_000);
+
+        // When
+        RosterSnapshot second = cache.get(this::loadRoster);
+
+        // Then
+        assertNotSame(first, second);
+        assertTrue(backgroundTasks.isEmpty());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_ShouldServeLastSnapshot_WhenReloadFailsWithinMaxStaleOnError() {
+        // Given
+        RosterSnapshot first = cache.get(this::loadRoster);
+        now.addAndGet(5_000);
+
+        // When
+        RosterSnapshot served = cache.get(() -> {
+            throw new UpstreamUnavailableException("throttled");
+        });
+
+        // Then
+        assertSame(first, served);
+        now.addAndGet(10_000);
+        assertThrows(
+                UpstreamUnavailableException.class,
+                () -> cache.get(() -> {
+                    throw new UpstreamUnavailableException("throttled");
+                }));
+    }
+
+    @Test
+    void onEmployeeCreated_ShouldAddToSnapshotAndBumpVersion() {
+        // Given
+        RosterSnapshot first = cache.get(this::loadRoster);
+
+        // When
+        cache.onEmployeeCreated(employee("3", "New Hire", 10));
+        RosterSnapshot updated = cache.get(this::loadRoster);
+
+        // Then
+        assertEquals(3, updated.getEmployees().size());
+        assertTrue(updated.getVersion() > first.getVersion());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void onEmployeeDeleted_ShouldRemoveUniqueNameAndInvalidateAmbiguousName() {
+        // Given
+        cache.get(this::loadRoster);
+
+        // When
+        cache.onEmployeeDeleted("1", "john doe");
+
+        // Then
+        assertEquals(1, cache.get(this::loadRoster).getEmployees().size());
+        cache.onEmployeeCreated(employee("3", "Jane Smith", 10));
+        cache.onEmployeeDeleted("3", "Jane Smith");
+        assertTrue(cache.peek().isEmpty());
+    }
+
+    @Test
+    void onEmployeeDeleted_ShouldKeepNameCountsAcrossCreatesAndDeletes() {
+        // Given
+        cache.get(this::loadRoster);
+
+        // When: a name goes away and comes back in another case
+        cache.onEmployeeCreated(employee("3", "Jill Jenkins", 10));
+        cache.onEmployeeDeleted("3", "jill jenkins");
+        cache.onEmployeeCreated(employee("4", "JILL JENKINS", 10));
+        cache.onEmployeeDeleted("4", "Jill Jenkins");
+
+        // Then: each delete was unambiguous and patched in
+        RosterSnapshot patched = cache.peek().orElseThrow();
+        assertEquals(2, patched.getEmployees().size());
+        assertNull(patched.findById("4"));
+        cache.onEmployeeCreated(employee("5", "JOHN doe", 10));
+        cache.onEmployeeDeleted("5", "JOHN doe");
+        assertTrue(cache.peek().isEmpty());
+    }
+
+    @Test
+    void get_ShouldRenewSnapshotAndReapplyLocalWrites_WhenAWriteLandsDuringEveryRefresh() {
+        // Given: upstream applies each create one refresh late, so every fetch predates the write made during it
+        List<Employee> upstream = new ArrayList<>(List.of(employee("1", "John Doe", 50000)));
+        cache.get(() -> List.copyOf(upstream));
+
+        for (int i = 0; i < 5; i++) {
+            // When: a stale read refreshes in the background while a create lands mid-fetch
+            now.addAndGet(500);
+            Employee created = employee("new-" + i, "Hire " + i, 1_000 + i);
+            cache.getConditional(etag -> {
+                List<Employee> fetched = List.copyOf(upstream);
+                cache.onEmployeeCreated(created);
+                upstream.add(created);
+                return RosterFetch.modified(fetched, null);
+            });
+            backgroundTasks.forEach(Runnable::run);
+            backgroundTasks.clear();
+
+            // Then: the refresh renewed the snapshot, and the write is neither lost nor doubled
+            RosterSnapshot snapshot = cache.peek().orElseThrow();
+            assertEquals(now.get(), snapshot.getFetchedAtMillis(), "refresh " + i);
+            assertEquals(idsOf(upstream), idsOf(snapshot.getEmployees()), "refresh " + i);
+        }
+
+        // And a delete landing during a synchronous load is re-applied the same way
+        now.addAndGet(5_000);
+        RosterSnapshot loaded = cache.get(() -> {
+            List<Employee> fetched = List.copyOf(upstream);
+            cache.onEmployeeDeleted("1", "John Doe");
+            return fetched;
+        });
+        assertEquals(now.get(), loaded.getFetchedAtMillis());
+        assertNull(loaded.findById("1"));
+        assertEquals(5, loaded.getEmployees().size());
+    }
+
+    @Test
+    void recordMissing_ShouldDropOldestIds_WhenProbedWithMoreThanTheCap() {
+        // When
+        for (int i = 0; i <= EmployeeRosterCache.MAX_MISSING_IDS; i++) {
+            cache.recordMissing("probe-" + i);
+        }
+
+        // Then
+        assertFalse(cache.isKnownMissing("probe-0"));
+        assertTrue(cache.isKnownMissing("probe-1"));
+        assertTrue(cache.isKnownMissing("probe-" + EmployeeRosterCache.MAX_MISSING_IDS));
+        now.addAndGet(1_000);
+        cache.recordMissing("after-expiry");
+        assertTrue(cache.isKnownMissing("after-expiry"));
+        assertFalse(cache.isKnownMissing("probe-1"));
+    }
+
+    @Test
+    void employeeService_ShouldServeAllReadsFromOneUpstreamFetch() {
+        // Given
+        EmployeeService.MockApiResponse response = new EmployeeService.MockApiResponse();
+        response.setData(loadRoster());
+        when(restTemplate.exchange(
+                        anyString(),
+                        eq(HttpMethod.GET),
+                        any(HttpEntity.class),
+                        eq(EmployeeService.MockApiResponse.class)))
+                .thenReturn(ResponseEntity.ok(response));
+        EmployeeService service = new EmployeeService(
+                restTemplate,
+                cache,
+                new SingleFlight(),
+                new UpstreamExecutor(new UpstreamRateGovernor(1, 1), 0, 1, 1, 0),
+                "http://localhost:8112");
+
+        // When
+        service.getAllEmployees();
+        service.getEmployeesByNameSearch("jane");
+        service.getEmployeeById("1");
+        Integer highestSalary = service.getHighestSalaryOfEmployees();
+        List<String> topTen = service.getTopTenHighestEarningEmployeeNames();
+
+        // Then
+        assertEquals(60000, highestSalary);
+        assertEquals(List.of("Jane Smith", "John Doe"), topTen);
+        verify(restTemplate, times(1))
+                .exchange(
+                        anyString(),
+                        eq(HttpMethod.GET),
+                        any(HttpEntity.class),
+                        eq(EmployeeService.MockApiResponse.class));
+    }
+
+    @Test
+    void employeeService_ShouldPatchSnapshot_WhenEmployeeCreated() {
+        // Given
+        EmployeeService.MockApiResponse response = new EmployeeService.MockApiResponse();
+        response.setData(loadRoster());
+        EmployeeService.MockCreateResponse created = new EmployeeService.MockCreateResponse();
+        created.setData(employee("3", "New Hire", 90000));
+        when(restTemplate.exchange(
+                        anyString(),
+                        eq(HttpMethod.GET),
+                        any(HttpEntity.class),
+                        eq(EmployeeService.MockApiResponse.class)))
+                .thenReturn(ResponseEntity.ok(response));
+        when(restTemplate.postForObject(anyString(), any(), eq(EmployeeService.MockCreateResponse.class)))
+                .thenReturn(created);
+        EmployeeService service = new EmployeeService(
+                restTemplate,
+                cache,
+                new SingleFlight(),
+                new UpstreamExecutor(new UpstreamRateGovernor(1, 1), 0, 1, 1, 0),
+                "http://localhost:8112");
+        service.getAllEmployees();
+
+        // When
+        service.createEmployee(new CreateEmployeeInput("New Hire", 90000, 30, "Engineer"));
+
+        // Then
+        assertEquals(90000, service.getHighestSalaryOfEmployees());
+        verify(restTemplate, times(1))
+                .exchange(
+                        anyString(),
+                        eq(HttpMethod.GET),
+                        any(HttpEntity.class),
+                        eq(EmployeeService.MockApiResponse.class));
+    }
+
+    @Test
+    void getConditional_ShouldRenewSnapshotWithoutRebuilding_WhenNotModified() {
+        // Given
+        RosterSnapshot first = cache.getConditional(etag -> RosterFetch.modified(loadRoster(), "W/\"v1\""));
+        first.searchByName("jane");
+        now.addAndGet(5_000);
+        List<String> sentTags = new ArrayList<>();
+
+        // When
+        RosterSnapshot revalidated = cache.getConditional(etag -> {
+            sentTags.add(etag);
+            return RosterFetch.notModified();
+        });
+
+        // Then
+        assertEquals(List.of("W/\"v1\""), sentTags);
+        assertEquals(first.getVersion(), revalidated.getVersion());
+        assertEquals(now.get(), revalidated.getFetchedAtMillis());
+        assertSame(first.getEmployees(), revalidated.getEmployees());
+        assertSame(first.getSalaryAggregates(), revalidated.getSalaryAggregates());
+        assertSame(revalidated, cache.get(this::loadRoster)); // fresh again, no further load
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void employeeService_ShouldSendIfNoneMatch_WhenChangesAreNoLongerRetained() {
+        // Given
+        EmployeeService.MockApiResponse response = new EmployeeService.MockApiResponse();
+        response.setData(loadRoster());
+        when(restTemplate.getForObject(CHANGES_URL, EmployeeService.MockChangesResponse.class, "v1"))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.GONE, "Gone", null, null, null));
+        when(restTemplate.exchange(
+                        anyString(),
+                        eq(HttpMethod.GET),
+                        any(HttpEntity.class),
+                        eq(EmployeeService.MockApiResponse.class)))
+                .thenReturn(ResponseEntity.ok().eTag("W/\"v1\"").body(response))
+                .thenReturn(ResponseEntity.status(HttpStatus.NOT_MODIFIED).build());
+        EmployeeService service = new EmployeeService(
+                restTemplate,
+                cache,
+                new SingleFlight(),
+                new UpstreamExecutor(new UpstreamRateGovernor(1, 1), 0, 1, 1, 0),
+                "http://localhost:8112");
+        service.getAllEmployees();
+        now.addAndGet(5_000);
+
+        // When
+        List<Employee> employees = service.getAllEmployees();
+
+        // Then
+        assertEquals(2, employees.size());
+        ArgumentCaptor<HttpEntity> request = ArgumentCaptor.forClass(HttpEntity.class);
+        verify(restTemplate, times(2))
+                .exchange(
+                        anyString(), eq(HttpMethod.GET), request.capture(), eq(EmployeeService.MockApiResponse.class));
+        assertTrue(request.getAllValues().get(0).getHeaders().getIfNoneMatch().isEmpty());
+        assertEquals(
+                List.of("W/\"v1\""), request.getAllValues().get(1).getHeaders().getIfNoneMatch());
+    }
+
+    @Test
+    void employeeService_ShouldApplyChangesSinceCachedRoster() {
+        // Given
+        EmployeeService.MockApiResponse response = new EmployeeService.MockApiResponse();
+        response.setData(loadRoster());
+        when(restTemplate.exchange(
+                        anyString(),
+                        eq(HttpMethod.GET),
+                        any(HttpEntity.class),
+                        eq(EmployeeService.MockApiResponse.class)))
+                .thenReturn(ResponseEntity.ok().eTag("W/\"i-1\"").body(response));
+        Employee hire = employee("3", "New Hire", 90000);
+        when(restTemplate.getForObject(CHANGES_URL, EmployeeService.MockChangesResponse.class, "i-1"))
+                .thenReturn(changes(
+                        "i-4",
+                        new RosterChange(2, RosterChange.Type.CREATED, hire),
+                        new RosterChange(3, RosterChange.Type.DELETED, employee("2", "Jane Smith", 60000)),
+                        new RosterChange(4, RosterChange.Type.CREATED, employee("1", "John Doe", 50000))));
+        when(restTemplate.getForObject(CHANGES_URL, EmployeeService.MockChangesResponse.class, "i-4"))
+                .thenReturn(changes("i-4"));
+        EmployeeService service = new EmployeeService(
+                restTemplate,
+                cache,
+                new SingleFlight(),
+                new UpstreamExecutor(new UpstreamRateGovernor(1, 1), 0, 1, 1, 0),
+                "http://localhost:8112");
+        service.getEmployeesByNameSearch("warm up the index");
+        service.getEmployeePage(null, 10);
+        now.addAndGet(5_000);
+
+        // When
+        List<Employee> employees = service.getAllEmployees();
+        now.addAndGet(5_000);
+        service.getAllEmployees(); // nothing changed since: the snapshot is only renewed
+
+        // Then
+        assertEquals(List.of("1", "3"), employees.stream().map(Employee::getId).toList());
+        assertEquals(90000, service.getHighestSalaryOfEmployees());
+        assertEquals(List.of("New Hire", "John Doe"), service.getTopTenHighestEarningEmployeeNames());
+        assertEquals(List.of(hire), service.getEmployeesByNameSearch("hire"));
+        assertEquals(List.of("1", "3"), idsOf(service.getEmployeePage(null, 10).getEmployees()));
+        assertEquals("W/\"i-4\"", cache.peek().orElseThrow().getEtag());
+        assertEquals(now.get(), cache.peek().orElseThrow().getFetchedAtMillis());
+        verify(restTemplate, times(1))
+                .exchange(
+                        anyString(),
+                        eq(HttpMethod.GET),
+                        any(HttpEntity.class),
+                        eq(EmployeeService.MockApiResponse.class));
+    }
+
+    private static EmployeeService.MockChangesResponse changes(String syncToken, RosterChange... changes) {
+        EmployeeService.MockChanges data = new EmployeeService.MockChanges();
+        data.setSyncToken(syncToken);
+        data.setChanges(List.of(changes));
+        EmployeeService.MockChangesResponse response = new EmployeeService.MockChangesResponse();
+        response.setData(data);
+        return response;
+    }
+
+    private static List<String> idsOf(List<Employee> employees) {
+        return employees.stream().map(Employee::getId).toList();
+    }
+
+    private List<Employee> loadRoster() {
+        loads.incrementAndGet();
+        return List.of(employee("1", "John Doe", 50000), employee("2", "Jane Smith", 60000));
+    }
+
+    private static Employee employee(String id, String name, int salary) {
+        return new Employee(id, name, salary, 30, "Developer", id + "@company.com");
+    }
+}
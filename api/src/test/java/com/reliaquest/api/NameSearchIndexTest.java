@@ -0,0 +1,100 @@
+package com.reliaquest.api;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.EmployeeRosterCache;
+import com.reliaquest.api.service.RosterSnapshot;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class NameSearchIndexTest {
+
+    private static final String[] SYLLABLES = {"an", "na", "jo", "hn", "ma", "ri", "el", "le", "sm", "ith", "aaa"};
+    private static final List<String> QUERIES = List.of(
+            "", "a", "An", "jo", "john", "JOHN", "ana", "aaaa", "smith", "ith ma", "zzz", "ri el", "nanana", "e 1");
+
+    @Test
+    void searchByName_ShouldMatchCaseInsensitiveScan() {
+        // Given
+        List<Employee> employees = randomRoster(new Random(11), 2_000);
+        employees.add(employee(null));
+        EmployeeRosterCache cache = cache();
+        RosterSnapshot snapshot = cache.get(() -> employees);
+
+        // When / Then
+        for (String query : QUERIES) {
+            assertEquals(scan(employees, query), snapshot.searchByName(query), query);
+        }
+    }
+
+    @Test
+    void onEmployeeCreatedAndDeleted_ShouldKeepSearchResultsInSyncWithRoster() {
+        // Given
+        Random random = new Random(3);
+        List<Employee> initial = randomRoster(random, 300);
+        EmployeeRosterCache cache = cache();
+        cache.get(() -> initial).searchByName("warm up the index");
+
+        // When / Then: enough changes to outgrow the delta and rebuild along the way
+        for (int i = 0; i < 700; i++) {
+            List<Employee> employees = cache.peek().orElseThrow().getEmployees();
+            if (employees.size() > 10 && random.nextBoolean()) {
+                Employee victim = employees.get(random.nextInt(employees.size()));
+                cache.onEmployeeDeleted(victim.getId(), victim.getEmployeeName());
+            } else {
+                cache.onEmployeeCreated(employee(randomName(random)));
+            }
+
+            RosterSnapshot updated = cache.peek().orElseThrow();
+            String query = QUERIES.get(random.nextInt(QUERIES.size()));
+            assertEquals(
+                    scan(updated.getEmployees(), query),
+                    updated.searchByName(query),
+                    "query '" + query + "' after operation " + i);
+        }
+    }
+
+    private static EmployeeRosterCache cache() {
+        return new EmployeeRosterCache(60_000, 0, 0, 0, new TestClock(new AtomicLong(1_000)), Runnable::run);
+    }
+
+    private static List<Employee> scan(List<Employee> employees, String query) {
+        return employees.stream()
+                .filter(employee -> employee.getEmployeeName() != null
+                        && employee.getEmployeeName().toLowerCase().contains(query.toLowerCase()))
+                .collect(Collectors.toList());
+    }
+
+    private static List<Employee> randomRoster(Random random, int size) {
+        List<Employee> employees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            employees.add(employee(randomName(random)));
+        }
+        return employees;
+    }
+
+    private static String randomName(Random random) {
+        StringBuilder name = new StringBuilder();
+        for (int part = 0; part < 2; part++) {
+            if (part > 0) {
+                name.append(' ');
+            }
+            int syllables = 1 + random.nextInt(3);
+            for (int i = 0; i < syllables; i++) {
+                String syllable = SYLLABLES[random.nextInt(SYLLABLES.length)];
+                name.append(i == 0 && random.nextBoolean() ? syllable.toUpperCase() : syllable);
+            }
+        }
+        return name.append(' ').append(random.nextInt(20)).toString();
+    }
+
+    private static Employee employee(String name) {
+        return new Employee(UUID.randomUUID().toString(), name, 50_000, 30, "Engineer", "employee@company.com");
+    }
+}
@@ -0,0 +1,176 @@
+package com.reliaquest.api;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.EmployeeRosterCache;
+import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.service.SingleFlight;
+import com.reliaquest.api.service.UpstreamExecutor;
+import com.reliaquest.api.service.UpstreamRateGovernor;
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.ResponseExtractor;
+import org.springframework.web.client.RestTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class RosterStreamingTest {
+
+    private static final String BASE_URL = "http://localhost:8112";
+    private static final String ROSTER_URL = BASE_URL + "/api/v1/employee";
+
+    @Mock
+    private RestTemplate restTemplate;
+
+    private final List<UpstreamExecutor> executors = new ArrayList<>();
+    private List<Employee> roster;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Random random = new Random(5);
+        roster = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            roster.add(new Employee(
+                    UUID.randomUUID().toString(),
+                    (random.nextBoolean() ? "Anna " : "Bob ") + "Smith-" + random.nextInt(50),
+                    30_000 + 1_000 * random.nextInt(40),
+                    20 + random.nextInt(40),
+                    "Engineer",
+                    "employee" + i + "@company.com"));
+        }
+        roster.add(new Employee(UUID.randomUUID().toString(), null, 900_000, 30, "Ghost", null));
+        roster.add(new Employee(UUID.randomUUID().toString(), "Unpaid ANNA", null, null, "Intern", null));
+        // Names whose lower case is not their chars' lower case: 'İ' lower-cases to "i\u0307"
+        roster.add(new Employee(UUID.randomUUID().toString(), "İpek Istanbul", 40_000, 30, "Engineer", null));
+        roster.add(new Employee(UUID.randomUUID().toString(), "İSTANBUL Weiß", 40_000, 30, "Engineer", null));
+
+        EmployeeService.MockApiResponse response = new EmployeeService.MockApiResponse();
+        response.setData(roster);
+        lenient()
+                .when(restTemplate.exchange(
+                        eq(ROSTER_URL),
+                        eq(HttpMethod.GET),
+                        any(HttpEntity.class),
+                        eq(EmployeeService.MockApiResponse.class)))
+                .thenReturn(ResponseEntity.ok(response));
+        byte[] body = rosterJson(roster);
+        lenient()
+                .when(restTemplate.execute(eq(ROSTER_URL), eq(HttpMethod.GET), isNull(), anyExtractor()))
+                .thenAnswer(invocation -> {
+                    ClientHttpResponse httpResponse = mock(ClientHttpResponse.class);
+                    when(httpResponse.getBody()).thenReturn(new ByteArrayInputStream(body));
+                    return invocation.<ResponseExtractor<Object>>getArgument(3).extractData(httpResponse);
+                });
+    }
+
+    @AfterEach
+    void tearDown() {
+        executors.forEach(UpstreamExecutor::shutdown);
+    }
+
+    @Test
+    void streamingReads_ShouldMatchCachedReads() {
+        // Given
+        EmployeeService cached = service(true);
+        EmployeeService streaming = service(false);
+
+        // When / Then
+        assertEquals(cached.getHighestSalaryOfEmployees(), streaming.getHighestSalaryOfEmployees());
+        assertEquals(cached.getTopTenHighestEarningEmployeeNames(), streaming.getTopTenHighestEarningEmployeeNames());
+        for (String query :
+                List.of("anna", "SMITH-1", "b", "", "nobody", "istanbul", "İPEK", "i\u0307stanbul", "weiß")) {
+            assertEquals(cached.getEmployeesByNameSearch(query), streaming.getEmployeesByNameSearch(query), query);
+        }
+        // Only "İpek Istanbul" spells "istanbul" once lower-cased whole
+        assertEquals(1, streaming.getEmployeesByNameSearch("istanbul").size());
+        List<Employee> all = streaming.getAllEmployees();
+        assertEquals(roster, all);
+        assertEquals(roster.get(301).getEmployeeSalary(), all.get(301).getEmployeeSalary());
+        assertEquals(roster.get(0).getEmployeeEmail(), all.get(0).getEmployeeEmail());
+        assertEquals(
+                cached.getEmployeePage(null, 7).getEmployees(),
+                streaming.getEmployeePage(null, 7).getEmployees());
+    }
+
+    @Test
+    void streamingReads_ShouldNotKeepRosterSnapshot() throws Exception {
+        // Given
+        EmployeeRosterCache cache =
+                new EmployeeRosterCache(60_000, 0, 0, 0, new TestClock(new AtomicLong(1_000)), Runnable::run);
+        UpstreamExecutor executor = executor();
+        EmployeeService streaming =
+                new EmployeeService(restTemplate, cache, new SingleFlight(), executor, BASE_URL, false);
+
+        // When
+        streaming.getHighestSalaryOfEmployees();
+        streaming.getTopTenHighestEarningEmployeeNamesAsync().get();
+
+        // Then
+        assertTrue(cache.peek().isEmpty());
+        verify(restTemplate, never())
+                .exchange(
+                        eq(ROSTER_URL),
+                        eq(HttpMethod.GET),
+                        any(HttpEntity.class),
+                        eq(EmployeeService.MockApiResponse.class));
+        verify(restTemplate, times(2)).execute(eq(ROSTER_URL), eq(HttpMethod.GET), isNull(), anyExtractor());
+    }
+
+    private EmployeeService service(boolean rosterCacheEnabled) {
+        EmployeeRosterCache cache =
+                new EmployeeRosterCache(60_000, 0, 0, 0, new TestClock(new AtomicLong(1_000)), Runnable::run);
+        return new EmployeeService(restTemplate, cache, new SingleFlight(), executor(), BASE_URL, rosterCacheEnabled);
+    }
+
+    private static ResponseExtractor<Object> anyExtractor() {
+        return ArgumentMatchers.any();
+    }
+
+    private UpstreamExecutor executor() {
+        UpstreamExecutor executor = new UpstreamExecutor(new UpstreamRateGovernor(1, 1), 0, 1, 1, 0);
+        executors.add(executor);
+        return executor;
+    }
+
+    /**
+     * The mock server's response shape, plus fields the reader has to skip.
+     */
+    private static byte[] rosterJson(List<Employee> employees) throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        List<Map<String, Object>> data = new ArrayList<>();
+        for (Employee employee : employees) {
+            Map<String, Object> json =
+                    objectMapper.convertValue(employee, new TypeReference<LinkedHashMap<String, Object>>() {});
+            json.put("employee_extra", Map.of("nested", List.of(1, 2, Map.of("deeper", "x"))));
+            data.add(json);
+        }
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("meta", Map.of("count", List.of(employees.size())));
+        response.put("data", data);
+        response.put("status", "Successfully processed request.");
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
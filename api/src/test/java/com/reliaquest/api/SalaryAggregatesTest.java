@@ -0,0 +1,100 @@
+package com.reliaquest.api;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.EmployeeRosterCache;
+import com.reliaquest.api.service.RosterSnapshot;
+import com.reliaquest.api.service.SalaryAggregates;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class SalaryAggregatesTest {
+
+    @Test
+    void of_ShouldMatchFullSort_IncludingTies() {
+        // Given
+        List<Employee> employees = randomRoster(new Random(7), 500, 40);
+
+        // When
+        SalaryAggregates aggregates = SalaryAggregates.of(employees);
+
+        // Then
+        assertEquals(expectedMax(employees), aggregates.getHighestSalary());
+        assertEquals(expectedTopTen(employees), aggregates.getTopTenNames());
+    }
+
+    @Test
+    void of_ShouldHandleSmallAndEmptyRosters() {
+        // When / Then
+        assertEquals(0, SalaryAggregates.of(List.of()).getHighestSalary());
+        assertTrue(SalaryAggregates.of(List.of()).getTopTenNames().isEmpty());
+
+        List<Employee> three = List.of(employee("A", 10), employee("B", 30), employee("C", 20));
+        assertEquals(30, SalaryAggregates.of(three).getHighestSalary());
+        assertEquals(List.of("B", "C", "A"), SalaryAggregates.of(three).getTopTenNames());
+    }
+
+    @Test
+    void onEmployeeCreatedAndDeleted_ShouldKeepAggregatesInSyncWithRoster() {
+        // Given
+        Random random = new Random(42);
+        List<Employee> initial = randomRoster(random, 60, 25);
+        EmployeeRosterCache cache =
+                new EmployeeRosterCache(60_000, 0, 0, 0, new TestClock(new AtomicLong(1_000)), Runnable::run);
+        cache.get(() -> initial);
+
+        // When / Then: a mix of creates and deletes, mostly hitting the top of the roster
+        for (int i = 0; i < 400; i++) {
+            RosterSnapshot snapshot = cache.peek().orElseThrow();
+            List<Employee> employees = snapshot.getEmployees();
+            if (employees.size() > 5 && random.nextInt(100) < 55) {
+                List<Employee> byRank = employees.stream()
+                        .sorted((e1, e2) -> Integer.compare(e2.getEmployeeSalary(), e1.getEmployeeSalary()))
+                        .collect(Collectors.toList());
+                Employee victim = byRank.get(random.nextInt(Math.min(byRank.size(), 15)));
+                cache.onEmployeeDeleted(victim.getId(), victim.getEmployeeName());
+            } else {
+                cache.onEmployeeCreated(employee("New " + i, 1 + random.nextInt(25)));
+            }
+
+            RosterSnapshot updated = cache.peek().orElseThrow();
+            assertEquals(
+                    expectedMax(updated.getEmployees()),
+                    updated.getSalaryAggregates().getHighestSalary());
+            assertEquals(
+                    expectedTopTen(updated.getEmployees()),
+                    updated.getSalaryAggregates().getTopTenNames(),
+                    "after operation " + i);
+        }
+    }
+
+    private static List<Employee> randomRoster(Random random, int size, int distinctSalaries) {
+        List<Employee> employees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            employees.add(employee("Employee " + i, 1 + random.nextInt(distinctSalaries)));
+        }
+        return employees;
+    }
+
+    private static Employee employee(String name, int salary) {
+        return new Employee(UUID.randomUUID().toString(), name, salary, 30, "Engineer", "employee@company.com");
+    }
+
+    private static int expectedMax(List<Employee> employees) {
+        return employees.stream().mapToInt(Employee::getEmployeeSalary).max().orElse(0);
+    }
+
+    private static List<String> expectedTopTen(List<Employee> employees) {
+        return employees.stream()
+                .sorted((e1, e2) -> Integer.compare(e2.getEmployeeSalary(), e1.getEmployeeSalary()))
+                .limit(10)
+                .map(Employee::getEmployeeName)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,205 @@
+package com.reliaquest.api;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.EmployeeRosterCache;
+import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.service.SingleFlight;
+import com.reliaquest.api.service.UpstreamExecutor;
+import com.reliaquest.api.service.UpstreamRateGovernor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class SingleFlightTest {
+
+    private static final int CALLERS = 50;
+
+    @Mock
+    private RestTemplate restTemplate;
+
+    @Test
+    void execute_ShouldShareOneCallAcrossConcurrentCallers() throws Exception {
+        // Given
+        SingleFlight singleFlight = new SingleFlight();
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger invocations = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+        try {
+            // When
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(executor.submit(() -> singleFlight.execute("roster", () -> {
+                    invocations.incrementAndGet();
+                    await(release);
+                    return "result";
+                })));
+            }
+            waitForJoiners(singleFlight, CALLERS - 1);
+            release.countDown();
+
+            // Then
+            for (Future<String> result : results) {
+                assertEquals("result", result.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, invocations.get());
+            assertEquals(1, singleFlight.getLeaderCount());
+            assertEquals(CALLERS - 1, singleFlight.getJoinedCount());
+            assertEquals(0, singleFlight.getInFlightCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void executeAsync_ShouldExportLeaderJoinedAndActiveMeters() throws Exception {
+        // Given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SingleFlight singleFlight = new SingleFlight(meterRegistry);
+        CompletableFuture<String> upstream = new CompletableFuture<>();
+
+        // When
+        CompletableFuture<String> leader = singleFlight.executeAsync("roster", () -> upstream);
+        CompletableFuture<String> joiner = singleFlight.executeAsync("roster", () -> upstream);
+
+        // Then
+        assertEquals(
+                1.0,
+                meterRegistry
+                        .get("upstream.singleflight.leaders")
+                        .functionCounter()
+                        .count());
+        assertEquals(
+                1.0,
+                meterRegistry
+                        .get("upstream.singleflight.joined")
+                        .functionCounter()
+                        .count());
+        assertEquals(
+                1.0, meterRegistry.get("upstream.singleflight.active").gauge().value());
+
+        upstream.complete("result");
+        assertEquals("result", joiner.get(5, TimeUnit.SECONDS));
+        assertEquals("result", leader.get(5, TimeUnit.SECONDS));
+        assertEquals(
+                0.0, meterRegistry.get("upstream.singleflight.active").gauge().value());
+    }
+
+    @Test
+    void execute_ShouldPropagateFailureToJoinersAndReleaseKey() throws Exception {
+        // Given
+        SingleFlight singleFlight = new SingleFlight();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // When
+            Future<String> leader = executor.submit(() -> singleFlight.execute("roster", () -> {
+                await(release);
+                throw new IllegalStateException("upstream down");
+            }));
+            waitForLeader(singleFlight);
+            Future<String> joiner = executor.submit(() -> singleFlight.execute("roster", () -> "unused"));
+            waitForJoiners(singleFlight, 1);
+            release.countDown();
+
+            // Then
+            Exception leaderFailure = assertThrows(Exception.class, () -> leader.get(5, TimeUnit.SECONDS));
+            Exception joinerFailure = assertThrows(Exception.class, () -> joiner.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, leaderFailure.getCause());
+            assertInstanceOf(IllegalStateException.class, joinerFailure.getCause());
+            assertEquals("next", singleFlight.execute("roster", () -> "next"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void employeeService_ShouldIssueOneUpstreamFetch_WhenCallersArriveTogether() throws Exception {
+        // Given
+        SingleFlight singleFlight = new SingleFlight();
+        CountDownLatch release = new CountDownLatch(1);
+        EmployeeService.MockApiResponse response = new EmployeeService.MockApiResponse();
+        response.setData(List.of(new Employee("1", "John Doe", 50000, 30, "Developer", "john@company.com")));
+        when(restTemplate.exchange(
+                        anyString(),
+                        eq(HttpMethod.GET),
+                        any(HttpEntity.class),
+                        eq(EmployeeService.MockApiResponse.class)))
+                .thenAnswer(invocation -> {
+                    await(release);
+                    return ResponseEntity.ok(response);
+                });
+        EmployeeService service = new EmployeeService(
+                restTemplate,
+                new EmployeeRosterCache(60_000, 0, 0, 0),
+                singleFlight,
+                new UpstreamExecutor(new UpstreamRateGovernor(1, 1), 0, 1, 1, 0),
+                "http://localhost:8112");
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+        try {
+            // When
+            List<Future<List<Employee>>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(executor.submit(service::getAllEmployees));
+            }
+            waitForJoiners(singleFlight, CALLERS - 1);
+            release.countDown();
+
+            // Then
+            for (Future<List<Employee>> result : results) {
+                assertEquals(1, result.get(5, TimeUnit.SECONDS).size());
+            }
+            verify(restTemplate, times(1))
+                    .exchange(
+                            anyString(),
+                            eq(HttpMethod.GET),
+                            any(HttpEntity.class),
+                            eq(EmployeeService.MockApiResponse.class));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void waitForLeader(SingleFlight singleFlight) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (singleFlight.getLeaderCount() < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static void waitForJoiners(SingleFlight singleFlight, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (singleFlight.getJoinedCount() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.reliaquest.api;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.DefaultRetryPolicy;
+import com.reliaquest.api.service.EmployeeRosterCache;
+import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.service.SingleFlight;
+import com.reliaquest.api.service.UpstreamCircuitBreaker;
+import com.reliaquest.api.service.UpstreamCircuitBreaker.State;
+import com.reliaquest.api.service.UpstreamExecutor;
+import com.reliaquest.api.service.UpstreamRateGovernor;
+import com.reliaquest.api.service.UpstreamUnavailableException;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class UpstreamCircuitBreakerTest {
+
+    private static final String BASE_URL = "http://localhost:8112";
+    private static final String EMPLOYEE_ID = "5255f1a5-f9f7-4be5-829a-134bde088d17";
+
+    @Mock
+    private RestTemplate restTemplate;
+
+    private final AtomicLong now = new AtomicLong(1_000);
+
+    private UpstreamCircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        breaker = new UpstreamCircuitBreaker(10, 4, 50, 1_000, 100, 5_000, 2, new TestClock(now));
+    }
+
+    @Test
+    void onFailure_ShouldNotOpen_BeforeMinimumCalls() {
+        // When
+        record(false, false, false);
+
+        // Then
+        assertEquals(State.CLOSED, breaker.getState());
+        assertTrue(breaker.tryAcquirePermission());
+    }
+
+    @Test
+    void onFailure_ShouldOpen_WhenFailureRateReachesThreshold() {
+        // When
+        record(true, false, true, false);
+
+        // Then
+        assertEquals(State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquirePermission());
+        assertEquals(1, breaker.getTransitionCount(State.OPEN));
+    }
+
+    @Test
+    void onSuccess_ShouldOpen_WhenEveryCallIsSlow() {
+        // When
+        for (int i = 0; i < 4; i++) {
+            assertTrue(breaker.tryAcquirePermission());
+            breaker.onSuccess(1_500);
+        }
+
+        // Then
+        assertEquals(State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void halfOpen_ShouldClose_WhenTrialCallsSucceed() {
+        // Given
+        record(false, false, false, false);
+        now.addAndGet(5_000);
+
+        // When
+        assertTrue(breaker.tryAcquirePermission());
+        assertTrue(breaker.tryAcquirePermission());
+        assertFalse(breaker.tryAcquirePermission()); // only two trial calls
+        breaker.onSuccess(10);
+        breaker.onSuccess(10);
+
+        // Then
+        assertEquals(State.CLOSED, breaker.getState());
+        assertEquals(1, breaker.getTransitionCount(State.HALF_OPEN));
+        assertEquals(1, breaker.getTransitionCount(State.CLOSED));
+    }
+
+    @Test
+    void halfOpen_ShouldReopen_WhenTrialCallFails() {
+        // Given
+        record(false, false, false, false);
+        now.addAndGet(5_000);
+
+        // When
+        assertTrue(breaker.tryAcquirePermission());
+        breaker.onFailure(10);
+
+        // Then
+        assertEquals(State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquirePermission());
+        assertEquals(2, breaker.getTransitionCount(State.OPEN));
+    }
+
+    @Test
+    void release_ShouldReturnTrialSlot_WhenCallWasNotSent() {
+        // Given
+        record(false, false, false, false);
+        now.addAndGet(5_000);
+        assertTrue(breaker.tryAcquirePermission());
+        assertTrue(breaker.tryAcquirePermission());
+
+        // When
+        breaker.release();
+
+        // Then
+        assertTrue(breaker.tryAcquirePermission());
+    }
+
+    @Test
+    void isUpstreamFailure_ShouldIgnoreClientErrors() {
+        // When / Then
+        assertFalse(UpstreamCircuitBreaker.isUpstreamFailure(
+                HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null)));
+        assertTrue(UpstreamCircuitBreaker.isUpstreamFailure(
+                HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", null, null, null)));
+        assertTrue(UpstreamCircuitBreaker.isUpstreamFailure(new ResourceAccessException("I/O", new IOException())));
+    }
+
+    @Test
+    void executeWithRetry_ShouldFailFast_WhenCircuitOpen() {
+        // Given
+        record(false, false, false, false);
+        UpstreamExecutor executor = executor();
+        AtomicInteger calls = new AtomicInteger();
+
+        // When / Then
+        assertThrows(
+                UpstreamUnavailableException.class, () -> executor.executeWithRetry(calls::incrementAndGet, "test"));
+        assertEquals(0, calls.get());
+        executor.shutdown();
+    }
+
+    @Test
+    void getEmployeeById_ShouldServeLastGoodSnapshot_WhenCircuitOpen() {
+        // Given
+        EmployeeRosterCache cache = new EmployeeRosterCache(100, 100, 100, 60_000, new TestClock(now), Runnable::run);
+        EmployeeService.MockApiResponse roster = new EmployeeService.MockApiResponse();
+        roster.setData(List.of(
+                new Employee(EMPLOYEE_ID, "Bill Bob", 89750, 24, "Documentation Engineer", "billBob@company.com")));
+        when(restTemplate.exchange(
+                        eq(BASE_URL + "/api/v1/employee"),
+                        eq(HttpMethod.GET),
+                        any(HttpEntity.class),
+                        eq(EmployeeService.MockApiResponse.class)))
+                .thenReturn(ResponseEntity.ok(roster));
+        UpstreamExecutor executor = executor();
+        EmployeeService service = new EmployeeService(restTemplate, cache, new SingleFlight(), executor, BASE_URL);
+        service.getAllEmployees();
+
+        // When: the snapshot is past its stale window and the upstream is down
+        now.addAndGet(1_000);
+        record(false, false, false);
+        assertEquals(State.OPEN, breaker.getState());
+        Employee employee = service.getEmployeeById(EMPLOYEE_ID);
+
+        // Then
+        assertEquals("Bill Bob", employee.getEmployeeName());
+        verify(restTemplate, never()).getForObject(anyString(), eq(EmployeeService.MockCreateResponse.class));
+        executor.shutdown();
+    }
+
+    private UpstreamExecutor executor() {
+        return new UpstreamExecutor(
+                new UpstreamRateGovernor(1, 1), new DefaultRetryPolicy(3, 1, 1, 1_000), breaker, 0, 1, 10, false);
+    }
+
+    private void record(boolean... successes) {
+        for (boolean success : successes) {
+            assertTrue(breaker.tryAcquirePermission());
+            if (success) {
+                breaker.onSuccess(10);
+            } else {
+                breaker.onFailure(10);
+            }
+        }
+    }
+}
@@ -0,0 +1,405 @@
+package com.reliaquest.api;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.DefaultRetryPolicy;
+import com.reliaquest.api.service.EmployeeRosterCache;
+import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.service.SingleFlight;
+import com.reliaquest.api.service.UpstreamCircuitBreaker;
+import com.reliaquest.api.service.UpstreamExecutor;
+import com.reliaquest.api.service.UpstreamRateGovernor;
+import com.reliaquest.api.service.UpstreamUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class UpstreamExecutorTest {
+
+    @Mock
+    private RestTemplate restTemplate;
+
+    private UpstreamExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void executeWithRetry_ShouldRecordAttemptsErrorsAndBackoff() {
+        // Given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        executor = new UpstreamExecutor(
+                new UpstreamRateGovernor(1, 1),
+                new DefaultRetryPolicy(3, 10, 10, 60_000),
+                neverOpens(),
+                1_000,
+                1,
+                10,
+                false,
+                meterRegistry);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When
+        String result = executor.executeWithRetry(
+                () -> {
+                    if (attempts.incrementAndGet() < 3) {
+                        throw HttpServerErrorException.create(
+                                HttpStatus.SERVICE_UNAVAILABLE, "Service Unavailable", null, null, null);
+                    }
+                    return "ok";
+                },
+                "test");
+
+        // Then
+        assertEquals("ok", result);
+        assertEquals(
+                1,
+                meterRegistry
+                        .get("upstream.requests")
+                        .tags("operation", "test", "outcome", "success")
+                        .timer()
+                        .count());
+        assertEquals(
+                2,
+                meterRegistry
+                        .get("upstream.requests")
+                        .tags("operation", "test", "outcome", "server_error")
+                        .timer()
+                        .count());
+        assertEquals(
+                2.0,
+                meterRegistry
+                        .get("upstream.errors")
+                        .tags("operation", "test", "status", "503")
+                        .counter()
+                        .count());
+        assertEquals(
+                3.0,
+                meterRegistry
+                        .get("upstream.attempts")
+                        .tags("operation", "test", "outcome", "success")
+                        .summary()
+                        .totalAmount());
+        assertEquals(
+                2,
+                meterRegistry
+                        .get("upstream.backoff")
+                        .tag("operation", "test")
+                        .timer()
+                        .count());
+        assertEquals(
+                3,
+                meterRegistry
+                        .get("upstream.permit.wait")
+                        .tag("operation", "test")
+                        .timer()
+                        .count());
+    }
+
+    @Test
+    void executeWithRetry_ShouldExportCircuitStateAndTransitions() {
+        // Given: a breaker that opens on the first failure
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        executor = new UpstreamExecutor(
+                new UpstreamRateGovernor(1, 1),
+                new DefaultRetryPolicy(0, 1, 1, 60_000),
+                new UpstreamCircuitBreaker(1, 1, 1, 60_000, 101, 60_000, 1, Clock.systemUTC()),
+                1_000,
+                1,
+                10,
+                false,
+                meterRegistry);
+        assertEquals(
+                1.0,
+                meterRegistry
+                        .get("upstream.circuit.state")
+                        .tag("state", "closed")
+                        .gauge()
+                        .value());
+
+        // When
+        assertThrows(
+                HttpServerErrorException.class,
+                () -> executor.executeWithRetry(
+                        () -> {
+                            throw HttpServerErrorException.create(
+                                    HttpStatus.SERVICE_UNAVAILABLE, "Service Unavailable", null, null, null);
+                        },
+                        "test"));
+
+        // Then
+        assertEquals(
+                1.0,
+                meterRegistry
+                        .get("upstream.circuit.state")
+                        .tag("state", "open")
+                        .gauge()
+                        .value());
+        assertEquals(
+                0.0,
+                meterRegistry
+                        .get("upstream.circuit.state")
+                        .tag("state", "closed")
+                        .gauge()
+                        .value());
+        assertEquals(
+                1.0,
+                meterRegistry
+                        .get("upstream.circuit.transitions")
+                        .tag("to", "open")
+                        .functionCounter()
+                        .count());
+        assertEquals(
+                0.0,
+                meterRegistry
+                        .get("upstream.circuit.transitions")
+                        .tag("to", "half_open")
+                        .functionCounter()
+                        .count());
+    }
+
+    @Test
+    void executeWithRetryAsync_ShouldReturnImmediately_AndRetryOnTimer() throws Exception {
+        // Given
+        executor = new UpstreamExecutor(
+                new UpstreamRateGovernor(1, 1),
+                new DefaultRetryPolicy(3, 200, 200, 60_000),
+                neverOpens(),
+                1_000,
+                1,
+                10,
+                false);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When
+        long start = System.nanoTime();
+        CompletableFuture<String> result = executor.executeWithRetryAsync(
+                () -> {
+                    if (attempts.incrementAndGet() < 3) {
+                        throw HttpServerErrorException.create(
+                                HttpStatus.SERVICE_UNAVAILABLE, "Service Unavailable", null, null, null);
+                    }
+                    return "ok";
+                },
+                "test");
+        long returnedAfterMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // Then
+        assertTrue(returnedAfterMs < 100, "caller should not wait for retries, took " + returnedAfterMs + "ms");
+        assertEquals("ok", result.get(5, TimeUnit.SECONDS));
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    void executeWithRetryAsync_ShouldNotHoldThreads_WhileCallersBackOff() throws Exception {
+        // Given: two call threads, two hundred callers each backing off once for 300ms
+        executor = new UpstreamExecutor(
+                new UpstreamRateGovernor(1, 1),
+                new DefaultRetryPolicy(1, 300, 300, 60_000),
+                neverOpens(),
+                1_000,
+                2,
+                1_000,
+                false);
+        List<CompletableFuture<Integer>> results = new ArrayList<>();
+
+        // When
+        long start = System.nanoTime();
+        for (int i = 0; i < 200; i++) {
+            AtomicInteger attempts = new AtomicInteger();
+            results.add(executor.executeWithRetryAsync(
+                    () -> {
+                        if (attempts.incrementAndGet() == 1) {
+                            throw HttpServerErrorException.create(
+                                    HttpStatus.SERVICE_UNAVAILABLE, "Service Unavailable", null, null, null);
+                        }
+                        return attempts.get();
+                    },
+                    "test"));
+        }
+        CompletableFuture.allOf(results.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // Then: the backoffs overlap; sleeping on two threads would take 100 x 300ms
+        for (CompletableFuture<Integer> result : results) {
+            assertEquals(2, result.get());
+        }
+        assertTrue(elapsedMs < 3_000, "backoffs should run concurrently, took " + elapsedMs + "ms");
+    }
+
+    @Test
+    void executeWithRetryAsync_ShouldFail_WhenNoPermitBeforeDeadline() {
+        // Given
+        UpstreamRateGovernor governor = new UpstreamRateGovernor(60_000, 60_000);
+        governor.tryAcquire();
+        governor.onThrottled(null);
+        executor =
+                new UpstreamExecutor(governor, new DefaultRetryPolicy(3, 1, 1, 60_000), neverOpens(), 50, 1, 10, false);
+
+        // When
+        CompletableFuture<String> result = executor.executeWithRetryAsync(() -> "never sent", "test");
+
+        // Then
+        ExecutionException e = assertThrows(ExecutionException.class, () -> result.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(UpstreamUnavailableException.class, e.getCause());
+    }
+
+    @Test
+    void executeWithRetryAsync_ShouldFail_WhenErrorIsNotRetryable() {
+        // Given
+        executor = new UpstreamExecutor(
+                new UpstreamRateGovernor(1, 1),
+                new DefaultRetryPolicy(3, 1, 1, 60_000),
+                neverOpens(),
+                1_000,
+                1,
+                10,
+                false);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When
+        CompletableFuture<String> result = executor.executeWithRetryAsync(
+                () -> {
+                    attempts.incrementAndGet();
+                    throw new IllegalArgumentException("Bad request");
+                },
+                "test");
+
+        // Then
+        ExecutionException e = assertThrows(ExecutionException.class, () -> result.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalArgumentException.class, e.getCause());
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void executeWithRetryAsync_ShouldFailAndReleaseTheProbePermit_WhenTheSupplierThrowsAnError() throws Exception {
+        // Given: a breaker that has just opened and lets a single half-open call through
+        UpstreamCircuitBreaker circuitBreaker =
+                new UpstreamCircuitBreaker(1, 1, 1, 60_000, 101, 0, 1, Clock.systemUTC());
+        assertTrue(circuitBreaker.tryAcquirePermission());
+        circuitBreaker.onFailure(1);
+        executor = new UpstreamExecutor(
+                new UpstreamRateGovernor(1, 1),
+                new DefaultRetryPolicy(3, 1, 1, 60_000),
+                circuitBreaker,
+                1_000,
+                1,
+                10,
+                false);
+
+        // When
+        CompletableFuture<String> failed = executor.executeWithRetryAsync(
+                () -> {
+                    throw new AssertionError("boom");
+                },
+                "test");
+
+        // Then
+        ExecutionException e = assertThrows(ExecutionException.class, () -> failed.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(AssertionError.class, e.getCause());
+        assertEquals("ok", executor.executeWithRetryAsync(() -> "ok", "test").get(1, TimeUnit.SECONDS));
+        assertThrows(
+                AssertionError.class,
+                () -> executor.executeWithRetry(
+                        () -> {
+                            throw new AssertionError("boom");
+                        },
+                        "test"));
+        assertEquals("ok", executor.executeWithRetry(() -> "ok", "test"));
+    }
+
+    @Test
+    void executeWithRetryAsync_ShouldRunAttemptsOnVirtualThreads_WhenEnabled() throws Exception {
+        // Given
+        executor = new UpstreamExecutor(
+                new UpstreamRateGovernor(1, 1),
+                new DefaultRetryPolicy(0, 1, 1, 60_000),
+                neverOpens(),
+                1_000,
+                1,
+                10,
+                true);
+
+        // When
+        Boolean virtual = executor.executeWithRetryAsync(
+                        () -> Thread.currentThread().isVirtual(), "test")
+                .get(1, TimeUnit.SECONDS);
+
+        // Then
+        assertTrue(virtual);
+    }
+
+    @Test
+    void getAllEmployeesAsync_ShouldShareOneUpstreamCall_WithSyncReaders() throws Exception {
+        // Given
+        executor = new UpstreamExecutor(
+                new UpstreamRateGovernor(1, 1),
+                new DefaultRetryPolicy(0, 1, 1, 60_000),
+                neverOpens(),
+                1_000,
+                2,
+                10,
+                false);
+        EmployeeService.MockApiResponse response = new EmployeeService.MockApiResponse();
+        response.setData(List.of(new Employee(
+                "5255f1a5-f9f7-4be5-829a-134bde088d17",
+                "Bill Bob",
+                89750,
+                24,
+                "Documentation Engineer",
+                "billBob@company.com")));
+        when(restTemplate.exchange(
+                        eq("http://localhost:8112/api/v1/employee"),
+                        eq(HttpMethod.GET),
+                        any(HttpEntity.class),
+                        eq(EmployeeService.MockApiResponse.class)))
+                .thenReturn(ResponseEntity.ok(response));
+        EmployeeService service = new EmployeeService(
+                restTemplate,
+                new EmployeeRosterCache(60_000, 0, 0, 0),
+                new SingleFlight(),
+                executor,
+                "http://localhost:8112");
+
+        // When
+        List<Employee> async = service.getAllEmployeesAsync().get(1, TimeUnit.SECONDS);
+        Integer highestSalary = service.getHighestSalaryOfEmployees();
+
+        // Then
+        assertEquals(1, async.size());
+        assertEquals(89750, highestSalary);
+        verify(restTemplate, times(1))
+                .exchange(
+                        anyString(),
+                        eq(HttpMethod.GET),
+                        any(HttpEntity.class),
+                        eq(EmployeeService.MockApiResponse.class));
+    }
+
+    private static UpstreamCircuitBreaker neverOpens() {
+        return new UpstreamCircuitBreaker(20, 10, 101, 60_000, 101, 1_000, 1, Clock.systemUTC());
+    }
+}
@@ -0,0 +1,150 @@
+package com.reliaquest.api;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.service.UpstreamRateGovernor;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class UpstreamRateGovernorTest {
+
+    private final AtomicLong now = new AtomicLong(0);
+
+    private UpstreamRateGovernor governor;
+
+    @BeforeEach
+    void setUp() {
+        governor = new UpstreamRateGovernor(1_000, 60_000, new TestClock(now));
+    }
+
+    @Test
+    void tryAcquire_ShouldNotPace_BeforeAnyThrottle() {
+        // When / Then
+        for (int i = 0; i < 100; i++) {
+            assertEquals(0, governor.tryAcquire());
+        }
+        assertFalse(governor.isThrottled());
+    }
+
+    @Test
+    void onThrottled_ShouldLearnBudgetAndOnlyAllowProbes() {
+        // Given
+        admit(6);
+
+        // When
+        governor.onThrottled(null);
+
+        // Then
+        assertEquals(6, governor.getLearnedBudget());
+        assertEquals(1_000, governor.tryAcquire()); // first probe after the minimum probe interval
+        now.addAndGet(1_000);
+        assertEquals(0, governor.tryAcquire()); // the probe
+        assertTrue(governor.tryAcquire() > 0); // only one probe at a time
+    }
+
+    @Test
+    void onSuccess_ShouldLearnCooldownAndPaceAtBudgetPerCooldown() {
+        // Given
+        admit(5);
+        governor.onThrottled(null);
+        probeUntilRecovered(30_000);
+
+        // Then
+        assertFalse(governor.isThrottled());
+        assertEquals(5, governor.getLearnedBudget());
+        assertTrue(governor.getLearnedCooldownMs() >= 30_000);
+        long cooldown = governor.getLearnedCooldownMs();
+
+        // The probe used one token, so four remain before pacing kicks in
+        admit(4);
+        long waitMs = governor.tryAcquire();
+        assertTrue(waitMs > 0);
+        assertEquals(cooldown / 5, waitMs, 1);
+        now.addAndGet(waitMs);
+        assertEquals(0, governor.tryAcquire());
+    }
+
+    @Test
+    void onSuccess_ShouldNotEndTheLockout_ForACallSentBeforeTheThrottle() {
+        // Given: six calls in flight, the first of which comes back 429
+        admit(6);
+        governor.onThrottled(null);
+        now.addAndGet(5);
+
+        // When: a call admitted before the 429 succeeds after it
+        governor.onSuccess();
+
+        // Then
+        assertTrue(governor.isThrottled());
+        assertEquals(0, governor.getLearnedCooldownMs());
+        assertEquals(995, governor.tryAcquire());
+
+        // The probe's success still ends the lockout, with the time since the 429 as the cooldown
+        now.addAndGet(995);
+        assertEquals(0, governor.tryAcquire());
+        governor.onSuccess();
+        assertFalse(governor.isThrottled());
+        assertEquals(1_000, governor.getLearnedCooldownMs());
+    }
+
+    @Test
+    void onThrottled_ShouldHonourRetryAfter() {
+        // Given
+        admit(3);
+
+        // When
+        governor.onThrottled(45_000L);
+
+        // Then
+        assertEquals(45_000, governor.tryAcquire());
+        now.addAndGet(45_000);
+        assertEquals(0, governor.tryAcquire());
+    }
+
+    @Test
+    void onError_ShouldReleaseProbeSlot() {
+        // Given
+        admit(3);
+        governor.onThrottled(null);
+        now.addAndGet(1_000);
+        assertEquals(0, governor.tryAcquire());
+
+        // When
+        governor.onError();
+
+        // Then
+        now.addAndGet(1_000);
+        assertEquals(0, governor.tryAcquire());
+    }
+
+    @Test
+    void acquire_ShouldGiveUp_WhenNoPermitBeforeDeadline() throws InterruptedException {
+        // Given
+        admit(2);
+        governor.onThrottled(null);
+
+        // When / Then
+        assertFalse(governor.acquire(10));
+    }
+
+    private void admit(int count) {
+        for (int i = 0; i < count; i++) {
+            assertEquals(0, governor.tryAcquire());
+        }
+    }
+
+    private void probeUntilRecovered(long actualCooldownMs) {
+        long throttledAt = now.get();
+        while (governor.isThrottled()) {
+            long waitMs = governor.tryAcquire();
+            if (waitMs > 0) {
+                now.addAndGet(waitMs);
+            } else if (now.get() - throttledAt >= actualCooldownMs) {
+                governor.onSuccess();
+            } else {
+                governor.onThrottled(null);
+            }
+        }
+    }
+}
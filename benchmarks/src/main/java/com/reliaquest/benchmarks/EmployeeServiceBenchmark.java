@@ -0,0 +1,89 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.EmployeeRosterCache;
+import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.service.SingleFlight;
+import com.reliaquest.api.service.UpstreamExecutor;
+import com.reliaquest.api.service.UpstreamRateGovernor;
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The service's read paths end to end against a warm roster snapshot: name search, top-ten names, highest salary and
+ * lookup by id, each through the same {@link EmployeeService} method the controller calls. The roster is served from
+ * memory, so the numbers are the service's own cost with no upstream latency. {@code rosterCacheEnabled=false}
+ * measures the same reads with the snapshot turned off, parsing the roster's JSON on every call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@State(Scope.Benchmark)
+public class EmployeeServiceBenchmark {
+
+    @Param({"50", "1000", "100000", "1000000"})
+    private int size;
+
+    @Param({"true", "false"})
+    private boolean rosterCacheEnabled;
+
+    private UpstreamExecutor executor;
+    private EmployeeService service;
+    private String id;
+
+    @Setup
+    public void setUp() {
+        List<Employee> employees = Rosters.generate(size);
+        id = employees.get(employees.size() / 2).getId();
+        executor = new UpstreamExecutor(new UpstreamRateGovernor(1, 1), 0, 1, 1, 0);
+        service = new EmployeeService(
+                new Rosters.InMemoryRestTemplate(employees),
+                new EmployeeRosterCache(Long.MAX_VALUE / 2, 0, 0, 0, Clock.systemUTC(), Runnable::run),
+                new SingleFlight(),
+                executor,
+                "http://localhost:8112",
+                rosterCacheEnabled);
+        // Load the snapshot and build the name index outside the measurement
+        service.getEmployeesByNameSearch("warm up");
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Benchmark
+    public List<Employee> searchByName() {
+        return service.getEmployeesByNameSearch("ella thornton");
+    }
+
+    @Benchmark
+    public List<String> topTenNames() {
+        return service.getTopTenHighestEarningEmployeeNames();
+    }
+
+    @Benchmark
+    public Integer highestSalary() {
+        return service.getHighestSalaryOfEmployees();
+    }
+
+    @Benchmark
+    public Employee byId() {
+        return service.getEmployeeById(id);
+    }
+}
@@ -0,0 +1,458 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.ApiApplication;
+import com.reliaquest.server.ServerApplication;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmployeeService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Boots the mock server and the api in this JVM on local ports and drives the api's seven
+ * {@link com.reliaquest.api.controller.IEmployeeController} operations with an open-loop workload: requests are sent
+ * on a fixed schedule whether or not earlier ones have answered, and each latency is measured from the moment its
+ * request was due rather than when it was sent, so a stalled api shows up in the percentiles instead of quietly
+ * slowing the load down.
+ *
+ * <p>Reported per operation: request count, responses by status class, the error rate (5xx and transport failures),
+ * and HdrHistogram latency percentiles; then the achieved rate and the number of requests the api made to the mock
+ * server, counted by a filter on the server, with how many of those were throttled with a 429.
+ *
+ * <p>Arguments are {@code key=value} pairs: {@code rate} (requests per second, default 50), {@code duration} (seconds
+ * measured, 30), {@code warmup} (seconds sent but not measured, 5), {@code arrivals} ({@code poisson} or
+ * {@code uniform}), {@code mix} (operation weights, default
+ * {@code all=1,search=2,byId=4,highestSalary=1,topTen=1,create=1,delete=1}), {@code async} ({@code true} drives
+ * {@code /api/v1/async/employee}), {@code timeoutMs} (30000), {@code maxInFlight} (10000; arrivals beyond it are
+ * dropped and counted), {@code seed} (42), {@code serverPort} (18112) and {@code apiPort} (18111). Any other key
+ * starting with {@code server.} or {@code api.} is passed to that application as a property with the prefix removed,
+ * e.g. {@code server.mock.rate-limit.algorithm=none} or {@code api.cache.roster.ttl-ms=1000}.
+ *
+ * <p>Deletes go to employees created earlier in the run, then to the seeded roster, so each id is deleted once.
+ */
+public class LoadTest {
+
+    private static final String DEFAULT_MIX = "all=1,search=2,byId=4,highestSalary=1,topTen=1,create=1,delete=1";
+
+    enum Operation {
+        ALL("all"),
+        SEARCH("search"),
+        BY_ID("byId"),
+        HIGHEST_SALARY("highestSalary"),
+        TOP_TEN("topTen"),
+        CREATE("create"),
+        DELETE("delete");
+
+        private final String key;
+
+        Operation(String key) {
+            this.key = key;
+        }
+
+        static Operation of(String key) {
+            for (Operation operation : values()) {
+                if (operation.key.equals(key)) {
+                    return operation;
+                }
+            }
+            throw new IllegalArgumentException("Unknown operation: " + key);
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        int serverPort = Integer.parseInt(options.getOrDefault("serverPort", "18112"));
+        int apiPort = Integer.parseInt(options.getOrDefault("apiPort", "18111"));
+
+        Map<String, String> serverProperties = properties(options, "server.", serverPort);
+        serverProperties.putIfAbsent("spring.config.location", configLocation("loadtest.server.config"));
+        Map<String, String> apiProperties = properties(options, "api.", apiPort);
+        apiProperties.putIfAbsent("spring.config.location", configLocation("loadtest.api.config"));
+        apiProperties.putIfAbsent("mock.api.base-url", "http://localhost:" + serverPort);
+
+        UpstreamCounter upstream = new UpstreamCounter();
+        try (ConfigurableApplicationContext server = new SpringApplicationBuilder(ServerApplication.class)
+                        .initializers(
+                                context -> context.getBeanFactory().registerSingleton("upstreamCounter", upstream))
+                        .run(commandLine(serverProperties));
+                ConfigurableApplicationContext api =
+                        new SpringApplicationBuilder(ApiApplication.class).run(commandLine(apiProperties))) {
+            List<MockEmployee> roster =
+                    server.getBean(MockEmployeeService.class).getMockEmployees();
+            String prefix = Boolean.parseBoolean(options.getOrDefault("async", "false"))
+                    ? "/api/v1/async/employee"
+                    : "/api/v1/employee";
+            new LoadTest(options, URI.create("http://localhost:" + apiPort + prefix), roster, upstream).run();
+        }
+    }
+
+    private final int rate;
+    private final long durationNanos;
+    private final long warmupNanos;
+    private final boolean poisson;
+    private final Operation[] schedule;
+    private final long timeoutMs;
+    private final int maxInFlight;
+    private final Random random;
+    private final URI base;
+    private final List<MockEmployee> roster;
+    private final UpstreamCounter upstream;
+
+    private final HttpClient client;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<Operation, Stats> stats = new EnumMap<>(Operation.class);
+    private final Queue<String> deletable = new ConcurrentLinkedQueue<>();
+    private final Queue<String> seededIds = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder dropped = new LongAdder();
+    private final AtomicInteger created = new AtomicInteger();
+
+    LoadTest(Map<String, String> options, URI base, List<MockEmployee> roster, UpstreamCounter upstream) {
+        this.rate = Integer.parseInt(options.getOrDefault("rate", "50"));
+        this.durationNanos = TimeUnit.SECONDS.toNanos(Long.parseLong(options.getOrDefault("duration", "30")));
+        this.warmupNanos = TimeUnit.SECONDS.toNanos(Long.parseLong(options.getOrDefault("warmup", "5")));
+        this.poisson = !"uniform".equals(options.getOrDefault("arrivals", "poisson"));
+        this.schedule = schedule(options.getOrDefault("mix", DEFAULT_MIX));
+        this.timeoutMs = Long.parseLong(options.getOrDefault("timeoutMs", "30000"));
+        this.maxInFlight = Integer.parseInt(options.getOrDefault("maxInFlight", "10000"));
+        this.random = new Random(Long.parseLong(options.getOrDefault("seed", "42")));
+        this.base = base;
+        this.roster = roster;
+        this.upstream = upstream;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(timeoutMs))
+                .build();
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new Stats());
+        }
+        roster.forEach(employee -> seededIds.add(employee.getId().toString()));
+    }
+
+    void run() throws InterruptedException {
+        System.out.printf(
+                "target=%s rate=%d/s duration=%ds warmup=%ds arrivals=%s roster=%d%n",
+                base,
+                rate,
+                TimeUnit.NANOSECONDS.toSeconds(durationNanos),
+                TimeUnit.NANOSECONDS.toSeconds(warmupNanos),
+                poisson ? "poisson" : "uniform",
+                roster.size());
+
+        long start = System.nanoTime();
+        long measureFrom = start + warmupNanos;
+        long end = measureFrom + durationNanos;
+        long upstreamBefore = -1;
+        long throttledBefore = 0;
+        long due = start;
+        while (due < end) {
+            long now = System.nanoTime();
+            if (due > now) {
+                LockSupport.parkNanos(due - now);
+                continue;
+            }
+            boolean measured = due >= measureFrom;
+            if (measured && upstreamBefore < 0) {
+                upstreamBefore = upstream.requests.sum();
+                throttledBefore = upstream.throttled.sum();
+            }
+            // Behind schedule, every overdue arrival is sent at once; the lateness lands in its latency
+            Operation operation = schedule[random.nextInt(schedule.length)];
+            String argument = argument(operation);
+            if (inFlight.incrementAndGet() > maxInFlight) {
+                inFlight.decrementAndGet();
+                if (measured) {
+                    dropped.increment();
+                }
+            } else {
+                long requestDue = due;
+                Thread.ofVirtual().start(() -> send(operation, argument, requestDue, measured));
+            }
+            due += interarrivalNanos();
+        }
+
+        long drainDeadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        report(upstream.requests.sum() - Math.max(upstreamBefore, 0), upstream.throttled.sum() - throttledBefore);
+    }
+
+    private long interarrivalNanos() {
+        double meanNanos = TimeUnit.SECONDS.toNanos(1) / (double) rate;
+        return poisson ? (long) (-Math.log(1 - random.nextDouble()) * meanNanos) : (long) meanNanos;
+    }
+
+    /**
+     * Picks what the request is about while still on the scheduling thread, so a seed gives the same requests.
+     */
+    private String argument(Operation operation) {
+        return switch (operation) {
+            case SEARCH -> {
+                String name = roster.get(random.nextInt(roster.size())).getName();
+                yield name.substring(0, name.indexOf(' ') > 0 ? name.indexOf(' ') : name.length());
+            }
+            case BY_ID -> roster.get(random.nextInt(roster.size())).getId().toString();
+            case CREATE -> String.valueOf(created.incrementAndGet());
+            default -> null;
+        };
+    }
+
+    private void send(Operation operation, String argument, long dueNanos, boolean measured) {
+        Stats operationStats = stats.get(operation);
+        try {
+            HttpResponse<byte[]> response =
+                    client.send(request(operation, argument), HttpResponse.BodyHandlers.ofByteArray());
+            long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - dueNanos);
+            if (operation == Operation.CREATE && response.statusCode() == 200) {
+                deletable.add(objectMapper.readTree(response.body()).path("id").asText());
+            }
+            if (measured) {
+                operationStats.record(response.statusCode(), latencyMicros);
+            }
+        } catch (IOException e) {
+            if (measured) {
+                operationStats.failed(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - dueNanos));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private HttpRequest request(Operation operation, String argument) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder().timeout(Duration.ofMillis(timeoutMs));
+        return switch (operation) {
+            case ALL -> builder.uri(base).GET().build();
+            case SEARCH -> builder.uri(URI.create(
+                            base + "/search?searchString=" + URLEncoder.encode(argument, StandardCharsets.UTF_8)))
+                    .GET()
+                    .build();
+            case BY_ID -> builder.uri(URI.create(base + "/" + argument)).GET().build();
+            case HIGHEST_SALARY -> builder.uri(URI.create(base + "/highest-salary"))
+                    .GET()
+                    .build();
+            case TOP_TEN -> builder.uri(URI.create(base + "/top-ten")).GET().build();
+            case CREATE -> {
+                int n = Integer.parseInt(argument);
+                yield builder.uri(base)
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(String.format(
+                                "{\"name\":\"Load Test %d\",\"salary\":%d,\"age\":%d,\"title\":\"Load Tester\"}",
+                                n, 30_000 + n * 997 % 470_000, 18 + n % 50)))
+                        .build();
+            }
+            case DELETE -> builder.uri(URI.create(base + "/" + nextDeletable()))
+                    .DELETE()
+                    .build();
+        };
+    }
+
+    private String nextDeletable() {
+        String id = deletable.poll();
+        if (id == null) {
+            id = seededIds.poll();
+        }
+        return id != null ? id : UUID.randomUUID().toString();
+    }
+
+    private void report(long upstreamRequests, long upstreamThrottled) {
+        System.out.printf(
+                "%-14s %8s %8s %8s %8s %8s %7s %10s %10s %10s %10s %10s%n",
+                "operation",
+                "count",
+                "2xx",
+                "4xx",
+                "5xx",
+                "failed",
+                "err%",
+                "p50(ms)",
+                "p90(ms)",
+                "p99(ms)",
+                "p99.9(ms)",
+                "max(ms)");
+        Stats total = new Stats();
+        for (Operation operation : Operation.values()) {
+            Stats operationStats = stats.get(operation);
+            if (operationStats.count() > 0) {
+                print(operation.key, operationStats);
+                total.add(operationStats);
+            }
+        }
+        print("total", total);
+
+        double seconds = durationNanos / (double) TimeUnit.SECONDS.toNanos(1);
+        System.out.printf(
+                "achieved %.1f req/s of %d/s offered, %d dropped at maxInFlight=%d%n",
+                total.count() / seconds, rate, dropped.sum(), maxInFlight);
+        System.out.printf(
+                "upstream %d requests (%d answered 429), %.2f per api request%n",
+                upstreamRequests,
+                upstreamThrottled,
+                total.count() == 0 ? 0.0 : upstreamRequests / (double) total.count());
+    }
+
+    private static void print(String name, Stats stats) {
+        long count = stats.count();
+        long errors = stats.serverErrors.sum() + stats.failed.sum();
+        Histogram latency = stats.latencyMicros;
+        System.out.printf(
+                "%-14s %8d %8d %8d %8d %8d %6.2f%% %10.1f %10.1f %10.1f %10.1f %10.1f%n",
+                name,
+                count,
+                stats.successes.sum(),
+                stats.clientErrors.sum(),
+                stats.serverErrors.sum(),
+                stats.failed.sum(),
+                count == 0 ? 0.0 : 100.0 * errors / count,
+                latency.getValueAtPercentile(50) / 1000.0,
+                latency.getValueAtPercentile(90) / 1000.0,
+                latency.getValueAtPercentile(99) / 1000.0,
+                latency.getValueAtPercentile(99.9) / 1000.0,
+                latency.getMaxValue() / 1000.0);
+    }
+
+    /**
+     * @return each operation repeated by its weight, so a uniform pick from the array follows the mix
+     */
+    private static Operation[] schedule(String mix) {
+        List<Operation> schedule = new ArrayList<>();
+        for (String entry : mix.split(",")) {
+            String[] weight = entry.trim().split("=");
+            Operation operation = Operation.of(weight[0]);
+            for (int i = Integer.parseInt(weight[1]); i > 0; i--) {
+                schedule.add(operation);
+            }
+        }
+        if (schedule.isEmpty()) {
+            throw new IllegalArgumentException("The mix has no operation with a positive weight: " + mix);
+        }
+        return schedule.toArray(new Operation[0]);
+    }
+
+    /**
+     * Both applications ship an {@code application.yml} at the classpath root, and only one of them is visible from
+     * a shared classpath, so each is pointed at its own file explicitly.
+     */
+    private static String configLocation(String systemProperty) {
+        String location = System.getProperty(systemProperty);
+        if (location == null) {
+            throw new IllegalStateException(
+                    systemProperty + " is not set; run the load test with ./gradlew :benchmarks:loadTest");
+        }
+        return location;
+    }
+
+    private static Map<String, String> properties(Map<String, String> options, String prefix, int port) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("server.port", String.valueOf(port));
+        properties.put("spring.main.banner-mode", "off");
+        properties.put("logging.level.com.reliaquest", "OFF");
+        options.forEach((key, value) -> {
+            if (key.startsWith(prefix)) {
+                properties.put(key.substring(prefix.length()), value);
+            }
+        });
+        return properties;
+    }
+
+    private static String[] commandLine(Map<String, String> properties) {
+        return properties.entrySet().stream()
+                .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                .toArray(String[]::new);
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator > 0) {
+                options.put(arg.substring(0, separator), arg.substring(separator + 1));
+            }
+        }
+        return options;
+    }
+
+    private static final class Stats {
+
+        private final Histogram latencyMicros = new ConcurrentHistogram(TimeUnit.MINUTES.toMicros(10), 3);
+        private final LongAdder successes = new LongAdder();
+        private final LongAdder clientErrors = new LongAdder();
+        private final LongAdder serverErrors = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+
+        void record(int status, long latencyMicros) {
+            (status >= 500 ? serverErrors : status >= 400 ? clientErrors : successes).increment();
+            this.latencyMicros.recordValue(Math.min(latencyMicros, this.latencyMicros.getHighestTrackableValue()));
+        }
+
+        void failed(long latencyMicros) {
+            failed.increment();
+            this.latencyMicros.recordValue(Math.min(latencyMicros, this.latencyMicros.getHighestTrackableValue()));
+        }
+
+        long count() {
+            return successes.sum() + clientErrors.sum() + serverErrors.sum() + failed.sum();
+        }
+
+        void add(Stats other) {
+            latencyMicros.add(other.latencyMicros);
+            successes.add(other.successes.sum());
+            clientErrors.add(other.clientErrors.sum());
+            serverErrors.add(other.serverErrors.sum());
+            failed.add(other.failed.sum());
+        }
+    }
+
+    /**
+     * Registered on the mock server: every request the api sends upstream, and how many the rate limiter refused.
+     */
+    static final class UpstreamCounter extends OncePerRequestFilter {
+
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder throttled = new LongAdder();
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+                throws ServletException, IOException {
+            try {
+                chain.doFilter(request, response);
+            } finally {
+                requests.increment();
+                if (response.getStatus() == 429) {
+                    throttled.increment();
+                }
+            }
+        }
+    }
+}
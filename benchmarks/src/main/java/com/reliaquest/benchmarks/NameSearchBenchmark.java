@@ -0,0 +1,69 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.EmployeeRosterCache;
+import com.reliaquest.api.service.RosterSnapshot;
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Name search: the per-request lower-casing scan the service used to run versus the snapshot's trigram index, for a
+ * rare, a common and a sub-trigram query. {@code buildIndex} is the cost of the first search against a fresh roster.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NameSearchBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    private int size;
+
+    @Param({"ella thornton", "son", "ri"})
+    private String query;
+
+    private List<Employee> employees;
+    private RosterSnapshot snapshot;
+
+    @Setup
+    public void setUp() {
+        employees = Rosters.generate(size);
+        snapshot = new EmployeeRosterCache(Long.MAX_VALUE / 2, 0, 0, 0, Clock.systemUTC(), Runnable::run)
+                .get(() -> employees);
+        snapshot.searchByName("build the index");
+    }
+
+    @Benchmark
+    public List<Employee> scan() {
+        return employees.stream()
+                .filter(employee -> employee.getEmployeeName().toLowerCase().contains(query.toLowerCase()))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Employee> index() {
+        return snapshot.searchByName(query);
+    }
+
+    @Benchmark
+    public List<Employee> buildIndex() {
+        return new EmployeeRosterCache(Long.MAX_VALUE / 2, 0, 0, 0, Clock.systemUTC(), Runnable::run)
+                .get(() -> employees)
+                .searchByName(query);
+    }
+}
@@ -0,0 +1,80 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.EmployeeRosterCache;
+import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.service.SingleFlight;
+import com.reliaquest.api.service.UpstreamExecutor;
+import com.reliaquest.api.service.UpstreamRateGovernor;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Reading the mock server's roster response: Jackson binding it to a {@link EmployeeService.MockApiResponse}, as
+ * RestTemplate's message converter does on every roster refresh, versus the service's streaming reader building the
+ * same employee list with the roster cache turned off. Run with the default {@code -prof gc} to compare bytes
+ * allocated per roster.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@State(Scope.Benchmark)
+public class RosterDeserializationBenchmark {
+
+    @Param({"50", "1000", "100000", "1000000"})
+    private int size;
+
+    private byte[] body;
+    private ObjectReader reader;
+    private UpstreamExecutor executor;
+    private EmployeeService streaming;
+
+    @Setup
+    public void setUp() {
+        List<Employee> employees = Rosters.generate(size);
+        body = Rosters.json(employees);
+        reader = new ObjectMapper().readerFor(EmployeeService.MockApiResponse.class);
+        executor = new UpstreamExecutor(new UpstreamRateGovernor(1, 1), 0, 1, 1, 0);
+        streaming = new EmployeeService(
+                new Rosters.InMemoryRestTemplate(employees),
+                new EmployeeRosterCache(Long.MAX_VALUE / 2, 0, 0, 0, Clock.systemUTC(), Runnable::run),
+                new SingleFlight(),
+                executor,
+                "http://localhost:8112",
+                false);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Benchmark
+    public EmployeeService.MockApiResponse databind() throws IOException {
+        return reader.readValue(new ByteArrayInputStream(body));
+    }
+
+    @Benchmark
+    public List<Employee> streamingReader() {
+        return streaming.getAllEmployees();
+    }
+}
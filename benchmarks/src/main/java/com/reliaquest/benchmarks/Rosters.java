@@ -0,0 +1,265 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.EmployeeService;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResponseExtractor;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Seeded rosters shared by the benchmarks, and a {@link RestTemplate} that answers the mock server's roster endpoint
+ * from memory so {@link EmployeeService} can be measured without a network in the way.
+ */
+final class Rosters {
+
+    private static final String[] FIRST_NAMES = {
+        "Ella",
+        "Liam",
+        "Noah",
+        "Olivia",
+        "Emma",
+        "Ava",
+        "Mia",
+        "Lucas",
+        "Mason",
+        "Ethan",
+        "Amelia",
+        "Harper",
+        "Evelyn",
+        "Logan",
+        "James",
+        "Aiden",
+        "Jackson",
+        "Sofia",
+        "Camila",
+        "Aria",
+        "Scarlett",
+        "Victoria",
+        "Madison",
+        "Luna",
+        "Grace",
+        "Chloe",
+        "Penelope",
+        "Layla",
+        "Riley",
+        "Zoey",
+        "Nora",
+        "Lily",
+        "Eleanor",
+        "Hannah",
+        "Lillian",
+        "Addison",
+        "Aubrey",
+        "Ellie",
+        "Stella",
+        "Natalie"
+    };
+    private static final String[] LAST_NAMES = {
+        "Smith",
+        "Johnson",
+        "Williams",
+        "Brown",
+        "Jones",
+        "Garcia",
+        "Miller",
+        "Davis",
+        "Rodriguez",
+        "Martinez",
+        "Hernandez",
+        "Lopez",
+        "Gonzalez",
+        "Wilson",
+        "Anderson",
+        "Thomas",
+        "Taylor",
+        "Moore",
+        "Jackson",
+        "Martin",
+        "Lee",
+        "Perez",
+        "Thompson",
+        "White",
+        "Harris",
+        "Sanchez",
+        "Clark",
+        "Ramirez",
+        "Lewis",
+        "Robinson",
+        "Walker",
+        "Young",
+        "Allen",
+        "King",
+        "Wright",
+        "Scott",
+        "Torres",
+        "Nguyen",
+        "Hill",
+        "Flores",
+        "Green",
+        "Adams",
+        "Nelson",
+        "Baker",
+        "Hall",
+        "Rivera",
+        "Campbell",
+        "Mitchell",
+        "Carter",
+        "Roberts",
+        "Gomez",
+        "Phillips",
+        "Evans",
+        "Turner",
+        "Diaz",
+        "Parker",
+        "Cruz",
+        "Edwards",
+        "Collins",
+        "Thornton"
+    };
+
+    private Rosters() {}
+
+    /**
+     * @return {@code size} employees with names drawn from a fixed pool and salaries spread over [30k, 500k); the
+     *     same seed always gives the same names and salaries
+     */
+    static List<Employee> generate(int size) {
+        Random random = new Random(42);
+        List<Employee> employees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                    + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            employees.add(new Employee(
+                    UUID.randomUUID().toString(),
+                    name,
+                    30_000 + random.nextInt(470_000),
+                    18 + random.nextInt(50),
+                    "Engineer",
+                    "employee" + i + "@company.com"));
+        }
+        return employees;
+    }
+
+    /**
+     * @return the body the mock server sends for {@code GET /api/v1/employee}
+     */
+    static byte[] json(List<Employee> employees) {
+        EmployeeService.MockApiResponse response = new EmployeeService.MockApiResponse();
+        response.setData(employees);
+        response.setStatus("Successfully processed request.");
+        try {
+            return new ObjectMapper().writeValueAsBytes(response);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Serves one roster for every request: bound to a {@link EmployeeService.MockApiResponse} through
+     * {@code exchange}, or as raw JSON to the response extractor the service streams with. Single employees are
+     * looked up by the last path segment.
+     */
+    static final class InMemoryRestTemplate extends RestTemplate {
+
+        private final List<Employee> employees;
+        private final Map<String, Employee> byId = new HashMap<>();
+        private final byte[] body;
+
+        InMemoryRestTemplate(List<Employee> employees) {
+            this.employees = employees;
+            employees.forEach(employee -> byId.put(employee.getId(), employee));
+            this.body = json(employees);
+        }
+
+        /**
+         * {@code GET /api/v1/employee/{id}}, which the service calls when the id is not in a roster snapshot.
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T getForObject(String url, Class<T> responseType, Object... uriVariables) {
+            EmployeeService.MockCreateResponse response = new EmployeeService.MockCreateResponse();
+            response.setData(byId.get(url.substring(url.lastIndexOf('/') + 1)));
+            return (T) response;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> ResponseEntity<T> exchange(
+                String url,
+                HttpMethod method,
+                HttpEntity<?> requestEntity,
+                Class<T> responseType,
+                Object... uriVariables) {
+            EmployeeService.MockApiResponse response = new EmployeeService.MockApiResponse();
+            response.setData(employees);
+            return ResponseEntity.ok((T) response);
+        }
+
+        @Override
+        public <T> T execute(
+                String url,
+                HttpMethod method,
+                RequestCallback requestCallback,
+                ResponseExtractor<T> responseExtractor,
+                Object... uriVariables) {
+            try (ClientHttpResponse response = new BodyResponse(body)) {
+                return responseExtractor.extractData(response);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private static final class BodyResponse implements ClientHttpResponse {
+
+        private final byte[] body;
+
+        BodyResponse(byte[] body) {
+            this.body = body;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() {
+            return HttpStatus.OK;
+        }
+
+        @Override
+        public String getStatusText() {
+            return HttpStatus.OK.getReasonPhrase();
+        }
+
+        @Override
+        public InputStream getBody() {
+            return new ByteArrayInputStream(body);
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_JSON);
+            return headers;
+        }
+
+        @Override
+        public void close() {}
+    }
+}
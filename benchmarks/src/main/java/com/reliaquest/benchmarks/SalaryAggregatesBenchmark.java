@@ -0,0 +1,85 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.SalaryAggregates;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Highest salary and top-ten names: the per-request stream code the service used to run versus reading the
+ * aggregates kept with the roster snapshot. {@code rebuildAggregates} is the one-off cost paid on a full refresh.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SalaryAggregatesBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    private int size;
+
+    private List<Employee> employees;
+    private SalaryAggregates aggregates;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        employees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            employees.add(new Employee(
+                    UUID.randomUUID().toString(),
+                    "Employee " + i,
+                    30_000 + random.nextInt(470_000),
+                    18 + random.nextInt(50),
+                    "Engineer",
+                    "employee" + i + "@company.com"));
+        }
+        aggregates = SalaryAggregates.of(employees);
+    }
+
+    @Benchmark
+    public int streamHighestSalary() {
+        return employees.stream().mapToInt(Employee::getEmployeeSalary).max().orElse(0);
+    }
+
+    @Benchmark
+    public List<String> streamTopTen() {
+        return employees.stream()
+                .sorted((e1, e2) -> Integer.compare(e2.getEmployeeSalary(), e1.getEmployeeSalary()))
+                .limit(10)
+                .map(Employee::getEmployeeName)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public int aggregatesHighestSalary() {
+        return aggregates.getHighestSalary();
+    }
+
+    @Benchmark
+    public List<String> aggregatesTopTen() {
+        return aggregates.getTopTenNames();
+    }
+
+    @Benchmark
+    public SalaryAggregates rebuildAggregates() {
+        return SalaryAggregates.of(employees);
+    }
+}
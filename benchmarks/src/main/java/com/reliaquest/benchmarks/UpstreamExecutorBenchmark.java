@@ -0,0 +1,61 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.service.UpstreamExecutor;
+import com.reliaquest.api.service.UpstreamRateGovernor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * What wrapping an upstream call costs when it succeeds first time: calling the supplier directly versus
+ * {@link UpstreamExecutor#executeWithRetry} (rate governor permit and circuit breaker bookkeeping on the caller's
+ * thread) and {@link UpstreamExecutor#executeWithRetryAsync} (the same, plus the hand-off to the call executor). The
+ * supplier does no work, so the difference is pure overhead.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UpstreamExecutorBenchmark {
+
+    private final Supplier<String> call = () -> "ok";
+
+    private UpstreamExecutor executor;
+
+    @Setup
+    public void setUp() {
+        executor = new UpstreamExecutor(new UpstreamRateGovernor(1, 1), 0, 1, 1, 0);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Benchmark
+    public String direct() {
+        return call.get();
+    }
+
+    @Benchmark
+    public String executeWithRetry() {
+        return executor.executeWithRetry(call, "benchmark");
+    }
+
+    @Benchmark
+    public String executeWithRetryAsync() {
+        return executor.executeWithRetryAsync(call, "benchmark").join();
+    }
+}
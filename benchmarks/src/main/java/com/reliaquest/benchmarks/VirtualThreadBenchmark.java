@@ -0,0 +1,186 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.service.DefaultRetryPolicy;
+import com.reliaquest.api.service.UpstreamCircuitBreaker;
+import com.reliaquest.api.service.UpstreamExecutor;
+import com.reliaquest.api.service.UpstreamRateGovernor;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpServerErrorException;
+
+/**
+ * Compares how the api copes with a burst of requests while the mock server is throttling, under three execution
+ * models:
+ *
+ * <ul>
+ *   <li>{@code platform}: today's default, a fixed pool the size of Tomcat's worker pool running the blocking
+ *       {@link UpstreamExecutor#executeWithRetry} (backoff sleeps included)
+ *   <li>{@code virtual}: the same blocking code, one virtual thread per request ({@code spring.threads.virtual.enabled})
+ *   <li>{@code async}: {@link UpstreamExecutor#executeWithRetryAsync}, backoff on a timer
+ * </ul>
+ *
+ * <p>Every simulated upstream call takes {@code upstreamMs}; the first {@code failures} attempts of each request are
+ * rejected with a 503, so each request spends a few jittered backoff delays starting at {@code baseDelayMs}. Reported per model:
+ * peak concurrent in-flight requests, latency percentiles measured from arrival, and peak JVM thread count.
+ *
+ * <p>Arguments are {@code key=value} pairs: {@code requests} (default 2000), {@code poolSize} (200, Tomcat's default
+ * {@code server.tomcat.threads.max}), {@code failures} (2), {@code upstreamMs} (20), {@code baseDelayMs} (100) and
+ * {@code modes} (platform,virtual,async).
+ */
+public class VirtualThreadBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        int requests = Integer.parseInt(options.getOrDefault("requests", "2000"));
+        int poolSize = Integer.parseInt(options.getOrDefault("poolSize", "200"));
+        int failures = Integer.parseInt(options.getOrDefault("failures", "2"));
+        long upstreamMs = Long.parseLong(options.getOrDefault("upstreamMs", "20"));
+        long baseDelayMs = Long.parseLong(options.getOrDefault("baseDelayMs", "100"));
+        String[] modes = options.getOrDefault("modes", "platform,virtual,async").split(",");
+
+        System.out.printf(
+                "requests=%d poolSize=%d failures=%d upstreamMs=%d baseDelayMs=%d%n",
+                requests, poolSize, failures, upstreamMs, baseDelayMs);
+        System.out.printf(
+                "%-10s %10s %12s %10s %10s %10s %12s%n",
+                "mode", "wall(ms)", "maxInFlight", "p50(ms)", "p99(ms)", "max(ms)", "peakThreads");
+
+        for (String mode : modes) {
+            // Warm-up pass so class loading and JIT do not land on the first measured mode
+            run(mode.trim(), Math.min(requests, 200), poolSize, failures, upstreamMs, baseDelayMs);
+            Result result = run(mode.trim(), requests, poolSize, failures, upstreamMs, baseDelayMs);
+            System.out.printf(
+                    "%-10s %10d %12d %10d %10d %10d %12d%n",
+                    mode.trim(),
+                    result.wallMs,
+                    result.maxInFlight,
+                    result.percentile(50),
+                    result.percentile(99),
+                    result.percentile(100),
+                    result.peakThreads);
+        }
+    }
+
+    private static Result run(String mode, int requests, int poolSize, int failures, long upstreamMs, long baseDelayMs)
+            throws Exception {
+        // The simulated throttling answers 503, which the governor does not pace on, so only the retry loop reacts
+        UpstreamExecutor upstream = new UpstreamExecutor(
+                new UpstreamRateGovernor(1, 1),
+                new DefaultRetryPolicy(failures, baseDelayMs, baseDelayMs << failures, 600_000),
+                // Every request fails at first by design; keep the breaker out of the comparison
+                new UpstreamCircuitBreaker(20, 10, 101, Long.MAX_VALUE, 101, 1_000, 1, Clock.systemUTC()),
+                60_000,
+                poolSize,
+                requests,
+                mode.equals("virtual"));
+        ExecutorService requestThreads =
+                switch (mode) {
+                    case "platform" -> Executors.newFixedThreadPool(poolSize);
+                    case "virtual" -> Executors.newVirtualThreadPerTaskExecutor();
+                    case "async" -> null;
+                    default -> throw new IllegalArgumentException("Unknown mode: " + mode);
+                };
+
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        long[] latenciesMs = new long[requests];
+        List<CompletableFuture<Void>> done = new ArrayList<>(requests);
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        threads.resetPeakThreadCount();
+        long start = System.nanoTime();
+        try {
+            for (int i = 0; i < requests; i++) {
+                int request = i;
+                long arrivedAt = System.nanoTime();
+                Supplier<String> call = throttledCall(failures, upstreamMs);
+                Runnable finished = () -> {
+                    inFlight.decrementAndGet();
+                    latenciesMs[request] = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - arrivedAt);
+                };
+
+                if (requestThreads == null) {
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    done.add(upstream.executeWithRetryAsync(call, "benchmark").handle((value, error) -> {
+                        finished.run();
+                        return null;
+                    }));
+                } else {
+                    done.add(CompletableFuture.runAsync(
+                            () -> {
+                                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                                try {
+                                    upstream.executeWithRetry(call, "benchmark");
+                                } finally {
+                                    finished.run();
+                                }
+                            },
+                            requestThreads));
+                }
+            }
+            CompletableFuture.allOf(done.toArray(new CompletableFuture[0])).get(10, TimeUnit.MINUTES);
+        } finally {
+            if (requestThreads != null) {
+                requestThreads.shutdownNow();
+            }
+            upstream.shutdown();
+        }
+
+        long wallMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        Arrays.sort(latenciesMs);
+        return new Result(wallMs, maxInFlight.get(), latenciesMs, threads.getPeakThreadCount());
+    }
+
+    private static Supplier<String> throttledCall(int failures, long upstreamMs) {
+        AtomicInteger attempts = new AtomicInteger();
+        return () -> {
+            sleep(upstreamMs);
+            if (attempts.incrementAndGet() <= failures) {
+                throw HttpServerErrorException.create(
+                        HttpStatus.SERVICE_UNAVAILABLE, "Service Unavailable", null, null, null);
+            }
+            return "ok";
+        };
+    }
+
+    private static void sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator > 0) {
+                options.put(arg.substring(0, separator), arg.substring(separator + 1));
+            }
+        }
+        return options;
+    }
+
+    private record Result(long wallMs, int maxInFlight, long[] sortedLatenciesMs, int peakThreads) {
+
+        long percentile(double percentile) {
+            int index = (int) Math.ceil(percentile / 100 * sortedLatenciesMs.length) - 1;
+            return sortedLatenciesMs[Math.max(0, Math.min(index, sortedLatenciesMs.length - 1))];
+        }
+    }
+}
@@ -1,18 +1,17 @@
 package com.reliaquest.server.config;
 
-import com.reliaquest.server.model.MockEmployee;
-import com.reliaquest.server.web.RandomRequestLimitInterceptor;
-import java.util.ArrayList;
-import java.util.List;
+import com.reliaquest.server.service.MockEmployeeGenerator;
+import com.reliaquest.server.service.MockEmployeeStore;
+import com.reliaquest.server.web.PartitionedRateLimiter;
+import com.reliaquest.server.web.RateLimitAlgorithm;
+import com.reliaquest.server.web.RateLimitPartitioning;
+import com.reliaquest.server.web.RequestLimitInterceptor;
+import java.time.Duration;
 import java.util.Locale;
-import java.util.UUID;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.Objects;
+import java.util.Random;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
-import net.datafaker.transformations.Field;
-import net.datafaker.transformations.JavaObjectTransformer;
-import net.datafaker.transformations.Schema;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -25,35 +24,69 @@ public class ServerConfiguration implements WebMvcConfigurer {
 
     public static final String EMAIL_TEMPLATE = "%s@company.com";
 
+    @Value("${mock.rate-limit.algorithm:random-lockout}")
+    private RateLimitAlgorithm rateLimitAlgorithm;
+
+    /*
+     * Left at 0, the limit is drawn from [5, 10) and the window from [30s, 90s), as the mock always did. A seed makes
+     * the draw repeatable.
+     */
+    @Value("${mock.rate-limit.limit:0}")
+    private int rateLimit;
+
+    @Value("${mock.rate-limit.window:0s}")
+    private Duration rateLimitWindow;
+
+    @Value("${mock.rate-limit.seed:#{null}}")
+    private Long rateLimitSeed;
+
+    @Value("${mock.rate-limit.partition-by:none}")
+    private RateLimitPartitioning rateLimitPartitioning;
+
+    @Value("${mock.rate-limit.client-header:X-Client-Id}")
+    private String rateLimitClientHeader;
+
+    @Value("${mock.rate-limit.max-clients:100000}")
+    private int rateLimitMaxClients;
+
     @Bean
     public Faker faker() {
         return new Faker(Locale.getDefault());
     }
 
     /*
-     * This list is modifiable by design for CRUD operations.
+     * The store is modifiable by design for CRUD operations.
      */
     @Bean
-    public List<MockEmployee> mockEmployees(Faker faker, @Value("${mock.employees.max:20}") int maxEmployees) {
-        final var transformer = new JavaObjectTransformer();
-        final var schema = Schema.of(
-                Field.field("id", UUID::randomUUID),
-                Field.field("name", () -> faker.name().fullName()),
-                Field.field("salary", () -> faker.number().numberBetween(30000, 500000)),
-                Field.field("age", () -> faker.number().numberBetween(16, 70)),
-                Field.field("title", () -> faker.job().title()),
-                Field.field(
-                        "email",
-                        () -> EMAIL_TEMPLATE.formatted(
-                                faker.twitter().userName().toLowerCase())));
-        return IntStream.rangeClosed(1, maxEmployees)
-                .mapToObj(ignored -> (MockEmployee) transformer.apply(MockEmployee.class, schema))
-                .peek(mockEmployee -> log.debug("Created employee: {}", mockEmployee))
-                .collect(Collectors.toCollection(ArrayList::new));
+    public MockEmployeeStore mockEmployeeStore(
+            @Value("${mock.employees.max:20}") int maxEmployees,
+            @Value("${mock.employees.seed:#{null}}") Long seed,
+            @Value("${mock.employees.chunk-size:10000}") int chunkSize,
+            @Value("${mock.employees.parallelism:0}") int parallelism,
+            @Value("${mock.employees.log-each:true}") boolean logEachEmployee) {
+        final var generator =
+                new MockEmployeeGenerator(Locale.getDefault(), seed, chunkSize, parallelism, logEachEmployee);
+        return new MockEmployeeStore(generator.generate(maxEmployees));
     }
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new RandomRequestLimitInterceptor());
+        final var random = Objects.isNull(rateLimitSeed) ? new Random() : new Random(rateLimitSeed);
+        final var limit = rateLimit > 0 ? rateLimit : random.nextInt(5, 10);
+        final var window = rateLimitWindow.isZero() ? Duration.ofSeconds(random.nextInt(30, 90)) : rateLimitWindow;
+        log.info(
+                "Rate limiting with {} per {}: limit {}, window {}",
+                rateLimitAlgorithm,
+                rateLimitPartitioning,
+                limit,
+                window);
+        final var rateLimiter = new PartitionedRateLimiter(
+                now -> rateLimitAlgorithm.create(limit, window, now),
+                window.toNanos(),
+                rateLimitMaxClients,
+                System.nanoTime());
+        // Only the employee API is limited; actuator scrapes are never throttled
+        registry.addInterceptor(new RequestLimitInterceptor(rateLimiter, rateLimitPartitioning, rateLimitClientHeader))
+                .addPathPatterns("/api/**");
     }
 }
@@ -1,34 +1,139 @@
 package com.reliaquest.server.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeBatchResult;
+import com.reliaquest.server.model.MockEmployeeChange;
+import com.reliaquest.server.model.MockEmployeeChanges;
+import com.reliaquest.server.model.MockEmployeePage;
 import com.reliaquest.server.model.Response;
 import com.reliaquest.server.service.MockEmployeeService;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/v1/employee")
 @RequiredArgsConstructor
 public class MockEmployeeController {
 
+    private static final long CHANGE_STREAM_TIMEOUT_MS = Duration.ofMinutes(10).toMillis();
+
     private final MockEmployeeService mockEmployeeService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
 
+    /*
+     * Conditional GET: Spring answers 304 without a body when If-None-Match matches the ETag (or, without it,
+     * If-Modified-Since is not older than Last-Modified).
+     */
     @GetMapping()
-    public Response<List<MockEmployee>> getEmployees() {
-        return Response.handledWith(mockEmployeeService.getMockEmployees());
+    public ResponseEntity<Response<List<MockEmployee>>> getEmployees() {
+        // The tag is read before the list is serialized, so a racing change can only make the body newer than its tag
+        final var eTag = mockEmployeeService.getRosterETag();
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .lastModified(mockEmployeeService.getLastModified())
+                .body(Response.handledWith(mockEmployeeService.getMockEmployees()));
+    }
+
+    @GetMapping("/page")
+    public Response<MockEmployeePage> getEmployeePage(
+            @RequestParam(required = false) String cursor, @RequestParam(defaultValue = "100") int limit) {
+        return Response.handledWith(mockEmployeeService.page(cursor, limit));
+    }
+
+    /*
+     * Newline-delimited JSON, one bare employee per line, written as it is serialized.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamEmployees() {
+        // An immutable snapshot, so a create while the body is being written cannot break the stream
+        final var employees = mockEmployeeService.getMockEmployees();
+        final var writer =
+                objectMapper.writerFor(MockEmployee.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(out -> {
+            final JsonGenerator generator = objectMapper.createGenerator(out);
+            generator.setRootValueSeparator(null); // lines are ended with '\n' below instead
+            for (MockEmployee employee : employees) {
+                writer.writeValue(generator, employee);
+                generator.writeRaw('\n');
+            }
+            generator.flush();
+        });
+    }
+
+    /*
+     * Incremental sync: the changes since a sync token (the opaque part of the roster ETag) and the token to ask with
+     * next. 410 Gone once they are no longer retained, in which case the caller reloads the whole roster.
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<Response<MockEmployeeChanges>> getChanges(@RequestParam String since) {
+        return mockEmployeeService
+                .changesSince(since)
+                .map(changes -> ResponseEntity.ok(Response.handledWith(changes)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.GONE)
+                        .body(Response.error("Changes since " + since + " are no longer available")));
+    }
+
+    /*
+     * The same changes as server-sent events, followed by each new change as it happens. An event's id is the sync
+     * token after it, so a client that reconnects with Last-Event-ID resumes where it left off.
+     */
+    @GetMapping(value = "/changes/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamChanges(
+            @RequestParam(required = false) String since,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        final var from = Objects.nonNull(lastEventId) ? lastEventId : since;
+        if (Objects.isNull(from)) {
+            throw new IllegalArgumentException("A sync token is required, as since or Last-Event-ID");
+        }
+
+        final var emitter = new SseEmitter(CHANGE_STREAM_TIMEOUT_MS);
+        // Each subscriber gets its own writer thread, so a slow client never holds up a create or delete
+        final var sender = Executors.newSingleThreadExecutor(
+                Thread.ofVirtual().name("change-stream").factory());
+        final var subscription =
+                mockEmployeeService.subscribe(from, change -> sender.execute(() -> send(emitter, change)));
+        if (subscription.isEmpty()) {
+            sender.shutdown();
+            return ResponseEntity.status(HttpStatus.GONE).build();
+        }
+
+        final Runnable close = () -> {
+            subscription.get().run();
+            sender.shutdown();
+        };
+        emitter.onCompletion(close);
+        emitter.onTimeout(close);
+        emitter.onError(ignored -> close.run());
+        return ResponseEntity.ok(emitter);
     }
 
     @GetMapping("/{id}")
@@ -48,4 +153,105 @@ public class MockEmployeeController {
     public Response<Boolean> deleteEmployee(@Valid @RequestBody DeleteMockEmployeeInput input) {
         return Response.handledWith(mockEmployeeService.delete(input));
     }
+
+    /*
+     * Creates up to MAX_BATCH_SIZE employees in one request. Each input is validated on its own; the valid ones are
+     * added in a single write and the rest are reported, so one bad input does not fail the others. Results are in
+     * input order.
+     */
+    @PostMapping("/batch")
+    public Response<List<MockEmployeeBatchResult<MockEmployee>>> createEmployees(
+            @RequestBody List<CreateMockEmployeeInput> inputs) {
+        checkBatchSize(inputs);
+        final var results = new ArrayList<MockEmployeeBatchResult<MockEmployee>>(inputs.size());
+        final var valid = new ArrayList<CreateMockEmployeeInput>(inputs.size());
+        for (int i = 0; i < inputs.size(); i++) {
+            final var problem = violations(inputs.get(i));
+            results.add(Objects.isNull(problem) ? null : MockEmployeeBatchResult.failed(i, problem));
+            if (Objects.isNull(problem)) {
+                valid.add(inputs.get(i));
+            }
+        }
+
+        final var created = mockEmployeeService.createAll(valid).iterator();
+        for (int i = 0; i < results.size(); i++) {
+            if (Objects.isNull(results.get(i))) {
+                results.set(i, MockEmployeeBatchResult.succeeded(i, created.next()));
+            }
+        }
+        return Response.handledWith(results);
+    }
+
+    /*
+     * Deletes up to MAX_BATCH_SIZE employees by id in one request. Each result carries the removed employee, or why
+     * nothing was removed for that id.
+     */
+    @DeleteMapping("/batch")
+    public Response<List<MockEmployeeBatchResult<MockEmployee>>> deleteEmployees(@RequestBody List<String> ids) {
+        checkBatchSize(ids);
+        final var uuids = new ArrayList<UUID>(ids.size());
+        for (String id : ids) {
+            uuids.add(parseId(id));
+        }
+
+        final var removed = mockEmployeeService.deleteAllById(uuids);
+        final var results = new ArrayList<MockEmployeeBatchResult<MockEmployee>>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            final var index = i;
+            results.add(
+                    Objects.isNull(uuids.get(i))
+                            ? MockEmployeeBatchResult.failed(i, "Invalid id: " + ids.get(i))
+                            : removed.get(i)
+                                    .map(employee -> MockEmployeeBatchResult.succeeded(index, employee))
+                                    .orElseGet(() ->
+                                            MockEmployeeBatchResult.failed(index, "Not found: " + ids.get(index))));
+        }
+        return Response.handledWith(results);
+    }
+
+    private static void checkBatchSize(List<?> items) {
+        if (Objects.isNull(items) || items.isEmpty() || items.size() > MockEmployeeService.MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException(
+                    "A batch must have between 1 and " + MockEmployeeService.MAX_BATCH_SIZE + " items");
+        }
+    }
+
+    /*
+     * The same checks @Valid applies to a single create, as one message per input, or null if it is valid.
+     */
+    private String violations(CreateMockEmployeeInput input) {
+        if (Objects.isNull(input)) {
+            return "Input must not be null";
+        }
+        final var violations = validator.validate(input);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private static UUID parseId(String id) {
+        try {
+            return Objects.isNull(id) ? null : UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private void send(SseEmitter emitter, MockEmployeeChange change) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .id(mockEmployeeService.syncToken(change.sequence()))
+                    .name(change.type().name())
+                    .data(change, MediaType.APPLICATION_JSON));
+        } catch (IOException e) {
+            // The client went away; completing the emitter unsubscribes
+            emitter.completeWithError(e);
+        } catch (IllegalStateException e) {
+            // Already completed, with sends still queued behind the last one
+        }
+    }
 }
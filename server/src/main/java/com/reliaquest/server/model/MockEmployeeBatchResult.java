@@ -0,0 +1,19 @@
+package com.reliaquest.server.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Outcome of one item of a batch request: {@code data} when it succeeded, otherwise {@code error}. {@code index} is
+ * the item's position in the request.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record MockEmployeeBatchResult<T>(int index, T data, String error) {
+
+    public static <T> MockEmployeeBatchResult<T> succeeded(int index, T data) {
+        return new MockEmployeeBatchResult<>(index, data, null);
+    }
+
+    public static <T> MockEmployeeBatchResult<T> failed(int index, String error) {
+        return new MockEmployeeBatchResult<>(index, null, error);
+    }
+}
@@ -0,0 +1,12 @@
+package com.reliaquest.server.model;
+
+/**
+ * One entry of the roster change log. For a deletion, {@code employee} is the employee as it was removed.
+ */
+public record MockEmployeeChange(long sequence, Type type, MockEmployee employee) {
+
+    public enum Type {
+        CREATED,
+        DELETED
+    }
+}
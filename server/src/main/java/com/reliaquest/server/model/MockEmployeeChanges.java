@@ -0,0 +1,6 @@
+package com.reliaquest.server.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+
+public record MockEmployeeChanges(@JsonProperty("sync_token") String syncToken, List<MockEmployeeChange> changes) {}
@@ -0,0 +1,74 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChange;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Bounded, append-only log of roster changes. Sequence numbers are contiguous, so the changes after a given
+ * sequence are found by offset rather than by search. Once the log is full the oldest entries are overwritten, and
+ * a reader that fell further behind has to reload the whole roster.
+ */
+class MockEmployeeChangeLog {
+
+    private final MockEmployeeChange[] changes;
+    private final List<Consumer<MockEmployeeChange>> subscribers = new ArrayList<>();
+    private long sequence;
+
+    MockEmployeeChangeLog(int capacity) {
+        this.changes = new MockEmployeeChange[capacity];
+    }
+
+    synchronized long sequence() {
+        return sequence;
+    }
+
+    synchronized MockEmployeeChange append(MockEmployeeChange.Type type, MockEmployee employee) {
+        final var change = new MockEmployeeChange(++sequence, type, employee);
+        changes[slot(change.sequence())] = change;
+        subscribers.forEach(subscriber -> subscriber.accept(change));
+        return change;
+    }
+
+    /**
+     * @return the changes after {@code since} in sequence order, or empty if some of them are no longer retained
+     *         (or {@code since} is ahead of the log)
+     */
+    synchronized Optional<List<MockEmployeeChange>> since(long since) {
+        if (since < 0 || since > sequence || sequence - since > changes.length) {
+            return Optional.empty();
+        }
+        final var result = new ArrayList<MockEmployeeChange>((int) (sequence - since));
+        for (long next = since + 1; next <= sequence; next++) {
+            result.add(changes[slot(next)]);
+        }
+        return Optional.of(result);
+    }
+
+    /**
+     * Replays the changes after {@code since} to the subscriber and then hands it every new change, with no gap or
+     * repeat in between. The subscriber is called while the log is locked and must not block.
+     *
+     * @return a handle that unsubscribes, or empty if the changes after {@code since} are no longer retained
+     */
+    synchronized Optional<Runnable> subscribe(long since, Consumer<MockEmployeeChange> subscriber) {
+        final var backlog = since(since);
+        if (backlog.isEmpty()) {
+            return Optional.empty();
+        }
+        backlog.get().forEach(subscriber);
+        subscribers.add(subscriber);
+        return Optional.of(() -> {
+            synchronized (this) {
+                subscribers.remove(subscriber);
+            }
+        });
+    }
+
+    private int slot(long sequence) {
+        return (int) (sequence % changes.length);
+    }
+}
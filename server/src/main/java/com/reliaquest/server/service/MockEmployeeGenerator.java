@@ -0,0 +1,121 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.config.ServerConfiguration;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import net.datafaker.Faker;
+
+/**
+ * Builds the initial roster in chunks on a pool of threads. Each chunk has its own {@link Faker} seeded from the
+ * roster seed and the chunk's index, so a seeded roster comes out the same whatever the parallelism, and no Faker is
+ * shared between threads.
+ *
+ * <p>The roster is generated while the store bean is created, before the server takes requests, so progress is only
+ * logged: each chunk at debug level, and about every tenth of rosters big enough to take a while.
+ */
+@Slf4j
+public class MockEmployeeGenerator {
+
+    private final Locale locale;
+    private final long seed;
+    private final int chunkSize;
+    private final int parallelism;
+    private final boolean logEachEmployee;
+    private final AtomicLong generated = new AtomicLong();
+
+    /**
+     * @param seed roster seed, or {@code null} for a different roster on every start
+     * @param parallelism threads to generate on; 0 for one per available processor
+     * @param logEachEmployee whether to debug-log every employee, which dominates startup for large rosters
+     */
+    public MockEmployeeGenerator(Locale locale, Long seed, int chunkSize, int parallelism, boolean logEachEmployee) {
+        if (chunkSize < 1 || parallelism < 0) {
+            throw new IllegalArgumentException("chunkSize must be positive and parallelism not negative");
+        }
+        this.locale = locale;
+        this.seed = seed != null ? seed : new Random().nextLong();
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.logEachEmployee = logEachEmployee;
+    }
+
+    public List<MockEmployee> generate(int count) {
+        generated.set(0);
+        final var startedAt = System.nanoTime();
+        final var chunks = (count + chunkSize - 1) / chunkSize;
+        final var threads = Math.min(parallelism, Math.max(chunks, 1));
+        final var roster = new ArrayList<MockEmployee>(count);
+        try (final var executor = Executors.newFixedThreadPool(
+                threads,
+                Thread.ofPlatform().name("roster-generator-", 0).daemon().factory())) {
+            final var futures = new ArrayList<Future<List<MockEmployee>>>(chunks);
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                final var index = chunk;
+                final var size = Math.min(chunkSize, count - chunk * chunkSize);
+                futures.add(executor.submit(() -> generateChunk(index, size, count)));
+            }
+            for (Future<List<MockEmployee>> future : futures) {
+                roster.addAll(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while generating employees", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to generate employees", e.getCause());
+        }
+        log.info(
+                "Generated {} employees on {} threads in {} ms",
+                count,
+                threads,
+                (System.nanoTime() - startedAt) / 1_000_000);
+        return roster;
+    }
+
+    private List<MockEmployee> generateChunk(int chunk, int size, int count) {
+        // Spread the chunk index over all bits, so neighbouring chunks do not start from neighbouring seeds
+        final var random = new Random(seed ^ (chunk * 0x9E3779B97F4A7C15L));
+        final var faker = new Faker(locale, random);
+        final var employees = new ArrayList<MockEmployee>(size);
+        for (int i = 0; i < size; i++) {
+            final var mockEmployee = MockEmployee.builder()
+                    .id(randomUuid(random))
+                    .name(faker.name().fullName())
+                    .salary(faker.number().numberBetween(30000, 500000))
+                    .age(faker.number().numberBetween(16, 70))
+                    .title(faker.job().title())
+                    .email(ServerConfiguration.EMAIL_TEMPLATE.formatted(
+                            faker.twitter().userName().toLowerCase()))
+                    .build();
+            if (logEachEmployee) {
+                log.debug("Created employee: {}", mockEmployee);
+            }
+            employees.add(mockEmployee);
+        }
+        final var done = generated.addAndGet(size);
+        log.debug("Generated chunk {} of {} employees, {} of {} done", chunk, size, done, count);
+        // About every tenth of the roster, for rosters big enough to take a while
+        final var step = Math.max(count / 10, 1);
+        if (count >= 100_000 && done / step != (done - size) / step) {
+            log.info("Generated {} of {} employees", done, count);
+        }
+        return employees;
+    }
+
+    /*
+     * A version 4 UUID like UUID.randomUUID(), but drawn from the chunk's seeded random.
+     */
+    private static UUID randomUuid(Random random) {
+        final var mostSigBits = (random.nextLong() & ~0xF000L) | 0x4000L;
+        final var leastSigBits = (random.nextLong() & ~(0b11L << 62)) | (0b10L << 62);
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
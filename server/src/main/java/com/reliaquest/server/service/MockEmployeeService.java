@@ -4,10 +4,20 @@ import com.reliaquest.server.config.ServerConfiguration;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChange;
+import com.reliaquest.server.model.MockEmployeeChanges;
+import com.reliaquest.server.model.MockEmployeePage;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.PriorityQueue;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -20,39 +30,217 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class MockEmployeeService {
 
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    public static final int MAX_BATCH_SIZE = 1000;
+
+    public static final int CHANGE_LOG_CAPACITY = 10_000;
+
+    private static final Comparator<MockEmployee> BY_ID = Comparator.comparing(MockEmployee::getId);
+
     private final Faker faker;
 
+    private final MockEmployeeStore mockEmployeeStore;
+
+    /*
+     * The log's sequence doubles as the roster version. It is tagged per server instance so that a restart never
+     * reuses a tag, or a sync token, for a different roster.
+     */
+    private final MockEmployeeChangeLog changeLog = new MockEmployeeChangeLog(CHANGE_LOG_CAPACITY);
+
+    /*
+     * Held across a store write and its log entry, so the log records changes in the order the store applied them.
+     */
+    private final Object writeLock = new Object();
+
+    private final String instanceTag = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+
     @Getter
-    private final List<MockEmployee> mockEmployees;
+    private volatile long lastModified = System.currentTimeMillis();
+
+    /**
+     * Weak entity tag of the current roster; it changes with every create and delete. Its opaque part is the
+     * roster's sync token.
+     */
+    public String getRosterETag() {
+        return "W/\"" + syncToken(changeLog.sequence()) + "\"";
+    }
+
+    /**
+     * Changes since the roster identified by the sync token {@code since}.
+     *
+     * @return the changes, or empty if they are no longer retained or the token is from another server instance
+     */
+    public Optional<MockEmployeeChanges> changesSince(String since) {
+        final var sequence = parseSyncToken(since);
+        return sequence.flatMap(changeLog::since)
+                .map(changes -> new MockEmployeeChanges(
+                        syncToken(changes.isEmpty() ? sequence.get() : lastSequence(changes)), changes));
+    }
+
+    /**
+     * Replays the changes since {@code since} to the subscriber, then passes it every new change as it happens. The
+     * subscriber is called while changes are serialized and must hand work off rather than block.
+     *
+     * @return a handle that unsubscribes, or empty if the changes are no longer retained
+     */
+    public Optional<Runnable> subscribe(String since, Consumer<MockEmployeeChange> subscriber) {
+        return parseSyncToken(since).flatMap(sequence -> changeLog.subscribe(sequence, subscriber));
+    }
+
+    public String syncToken(long sequence) {
+        return instanceTag + "-" + sequence;
+    }
+
+    /**
+     * @return an immutable snapshot of the roster
+     */
+    public List<MockEmployee> getMockEmployees() {
+        return mockEmployeeStore.getEmployees();
+    }
 
     public Optional<MockEmployee> findById(@NonNull UUID uuid) {
-        return mockEmployees.stream()
-                .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
-                        && mockEmployee.getId().equals(uuid))
-                .findFirst();
+        return mockEmployeeStore.findById(uuid);
+    }
+
+    /**
+     * Keyset page ordered by id. Only the page itself is held while scanning, so memory stays bounded by the
+     * page size rather than the roster.
+     */
+    public MockEmployeePage page(String cursor, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        final var after = decodeCursor(cursor);
+        final var page = new PriorityQueue<MockEmployee>(limit + 2, BY_ID.reversed());
+        var more = false;
+        for (MockEmployee employee : mockEmployeeStore.getEmployees()) {
+            if (Objects.isNull(employee.getId())
+                    || (Objects.nonNull(after) && employee.getId().compareTo(after) <= 0)) {
+                continue;
+            }
+            page.offer(employee);
+            if (page.size() > limit) {
+                page.poll();
+                more = true;
+            }
+        }
+
+        final var employees = new ArrayList<>(page);
+        employees.sort(BY_ID);
+        return new MockEmployeePage(
+                employees,
+                more ? encodeCursor(employees.get(employees.size() - 1).getId()) : null);
     }
 
     public MockEmployee create(@NonNull CreateMockEmployeeInput input) {
-        final var mockEmployee = MockEmployee.from(
-                ServerConfiguration.EMAIL_TEMPLATE.formatted(
-                        faker.twitter().userName().toLowerCase()),
-                input);
-        mockEmployees.add(mockEmployee);
+        final var mockEmployee = MockEmployee.from(randomEmail(), input);
+        synchronized (writeLock) {
+            mockEmployeeStore.add(mockEmployee);
+            rosterChanged(MockEmployeeChange.Type.CREATED, mockEmployee);
+        }
         log.debug("Added employee: {}", mockEmployee);
         return mockEmployee;
     }
 
+    /**
+     * Adds all inputs in one write: the roster is copied once and the changes are logged back to back.
+     *
+     * @return the created employees, in input order
+     */
+    public List<MockEmployee> createAll(@NonNull List<CreateMockEmployeeInput> inputs) {
+        final var mockEmployees = inputs.stream()
+                .map(input -> MockEmployee.from(randomEmail(), input))
+                .toList();
+        synchronized (writeLock) {
+            mockEmployeeStore.addAll(mockEmployees);
+            mockEmployees.forEach(added -> rosterChanged(MockEmployeeChange.Type.CREATED, added));
+        }
+        log.debug("Added {} employees", mockEmployees.size());
+        return mockEmployees;
+    }
+
+    /**
+     * Removes the employees with the given ids in one write.
+     *
+     * @return for each id, in order, the employee it removed, or empty if there was none
+     */
+    public List<Optional<MockEmployee>> deleteAllById(@NonNull List<UUID> ids) {
+        final List<Optional<MockEmployee>> removed;
+        synchronized (writeLock) {
+            removed = mockEmployeeStore.removeAllById(ids);
+            removed.forEach(mockEmployee ->
+                    mockEmployee.ifPresent(gone -> rosterChanged(MockEmployeeChange.Type.DELETED, gone)));
+        }
+        log.debug(
+                "Removed {} employees",
+                removed.stream().filter(Optional::isPresent).count());
+        return removed;
+    }
+
     public boolean delete(@NonNull DeleteMockEmployeeInput input) {
-        final var mockEmployee = mockEmployees.stream()
-                .filter(employee -> Objects.nonNull(employee.getName())
-                        && employee.getName().equalsIgnoreCase(input.getName()))
-                .findFirst();
+        final Optional<MockEmployee> mockEmployee;
+        synchronized (writeLock) {
+            mockEmployee = mockEmployeeStore.removeFirstByName(input.getName());
+            mockEmployee.ifPresent(removed -> rosterChanged(MockEmployeeChange.Type.DELETED, removed));
+        }
         if (mockEmployee.isPresent()) {
-            mockEmployees.remove(mockEmployee.get());
             log.debug("Removed employee: {}", mockEmployee.get());
             return true;
         }
 
         return false;
     }
+
+    private String randomEmail() {
+        return ServerConfiguration.EMAIL_TEMPLATE.formatted(
+                faker.twitter().userName().toLowerCase());
+    }
+
+    /*
+     * Called after the list has changed, never before: a reader that sees the new version then also sees the change.
+     */
+    private void rosterChanged(MockEmployeeChange.Type type, MockEmployee mockEmployee) {
+        lastModified = System.currentTimeMillis();
+        changeLog.append(type, mockEmployee);
+    }
+
+    private static long lastSequence(List<MockEmployeeChange> changes) {
+        return changes.get(changes.size() - 1).sequence();
+    }
+
+    /*
+     * A token from another server instance is not an error: the caller just has to reload the whole roster.
+     */
+    private Optional<Long> parseSyncToken(String token) {
+        final var separator = Objects.isNull(token) ? -1 : token.lastIndexOf('-');
+        if (separator < 0) {
+            throw new IllegalArgumentException("Invalid sync token: " + token);
+        }
+        if (!token.substring(0, separator).equals(instanceTag)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Long.parseLong(token.substring(separator + 1)));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid sync token: " + token);
+        }
+    }
+
+    private static String encodeCursor(UUID lastId) {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(lastId.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static UUID decodeCursor(String cursor) {
+        if (Objects.isNull(cursor) || cursor.isEmpty()) {
+            return null;
+        }
+        try {
+            return UUID.fromString(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
 }
@@ -0,0 +1,184 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Thread-safe roster. Employees are found by id and by case-insensitive name through concurrent indexes. The roster
+ * itself is a {@link PersistentList}: under the store's lock an add appends and a remove moves the last employee into
+ * the gap, found through its recorded position, each copying only O(log32 n) trie nodes rather than the roster. The
+ * writer then publishes the new version, and {@link #getEmployees()} returns the last published one without locking
+ * or copying, so no reader ever sees half of a write.
+ */
+public class MockEmployeeStore {
+
+    private final Map<UUID, MockEmployee> byId = new ConcurrentHashMap<>();
+
+    /*
+     * Folded name to the employees with that name, in the order they were added. The lists are immutable and
+     * replaced on write.
+     */
+    private final Map<String, List<MockEmployee>> byName = new ConcurrentHashMap<>();
+
+    /*
+     * The roster being written and each employee's position in it, guarded by the store's lock. Identity, not the
+     * Lombok equals, since two employees may have equal fields.
+     */
+    private PersistentList<MockEmployee> roster = PersistentList.empty();
+
+    private final Map<MockEmployee, Integer> positions = new IdentityHashMap<>();
+
+    /*
+     * The roster as of the last write, published by the writer.
+     */
+    private volatile PersistentList<MockEmployee> employees;
+
+    public MockEmployeeStore(Collection<MockEmployee> initial) {
+        for (MockEmployee employee : initial) {
+            append(employee);
+        }
+        publish();
+    }
+
+    /**
+     * @return an immutable snapshot of the roster. Employees are in the order they were added until one is removed,
+     *     which moves the last employee into its place.
+     */
+    public List<MockEmployee> getEmployees() {
+        return employees;
+    }
+
+    public int size() {
+        return employees.size();
+    }
+
+    public Optional<MockEmployee> findById(UUID id) {
+        return Optional.ofNullable(byId.get(id));
+    }
+
+    /**
+     * @return the earliest added employee whose name equals {@code name}, ignoring case
+     */
+    public Optional<MockEmployee> findFirstByName(String name) {
+        if (Objects.isNull(name)) {
+            return Optional.empty();
+        }
+        final var named = byName.get(fold(name));
+        return Objects.isNull(named) ? Optional.empty() : Optional.of(named.get(0));
+    }
+
+    public synchronized void add(MockEmployee employee) {
+        append(employee);
+        publish();
+    }
+
+    public synchronized void addAll(List<MockEmployee> added) {
+        added.forEach(this::append);
+        publish();
+    }
+
+    /**
+     * Removes the employees with the given ids. An id listed twice is removed once.
+     *
+     * @return for each id, in order, the employee it removed, if any
+     */
+    public synchronized List<Optional<MockEmployee>> removeAllById(List<UUID> ids) {
+        final var removed = new ArrayList<Optional<MockEmployee>>(ids.size());
+        for (UUID id : ids) {
+            final var employee = Objects.isNull(id) ? null : byId.get(id);
+            if (Objects.nonNull(employee)) {
+                remove(employee);
+            }
+            removed.add(Optional.ofNullable(employee));
+        }
+        if (removed.stream().anyMatch(Optional::isPresent)) {
+            publish();
+        }
+        return removed;
+    }
+
+    /**
+     * Finds and removes in one step, so two concurrent deletes of the same name remove two different employees.
+     *
+     * @return the removed employee, if any matched
+     */
+    public synchronized Optional<MockEmployee> removeFirstByName(String name) {
+        final var removed = findFirstByName(name);
+        removed.ifPresent(employee -> {
+            remove(employee);
+            publish();
+        });
+        return removed;
+    }
+
+    private void publish() {
+        employees = roster;
+    }
+
+    private void append(MockEmployee employee) {
+        positions.put(employee, roster.size());
+        roster = roster.withAdded(employee);
+        index(employee);
+    }
+
+    private void remove(MockEmployee employee) {
+        final int position = positions.remove(employee);
+        final var last = roster.get(roster.size() - 1);
+        roster = roster.withoutLast();
+        if (last != employee) {
+            roster = roster.with(position, last);
+            positions.put(last, position);
+        }
+        unindex(employee);
+    }
+
+    private void unindex(MockEmployee employee) {
+        if (Objects.nonNull(employee.getId())) {
+            byId.remove(employee.getId(), employee);
+        }
+        if (Objects.nonNull(employee.getName())) {
+            byName.computeIfPresent(fold(employee.getName()), (ignored, named) -> {
+                final var rest = new ArrayList<>(named);
+                rest.removeIf(candidate -> candidate == employee);
+                return rest.isEmpty() ? null : Collections.unmodifiableList(rest);
+            });
+        }
+    }
+
+    private void index(MockEmployee employee) {
+        if (Objects.nonNull(employee.getId())) {
+            byId.putIfAbsent(employee.getId(), employee);
+        }
+        if (Objects.nonNull(employee.getName())) {
+            byName.merge(fold(employee.getName()), List.of(employee), (named, added) -> {
+                final var all = new ArrayList<>(named);
+                all.addAll(added);
+                return Collections.unmodifiableList(all);
+            });
+        }
+    }
+
+    /*
+     * Folds each char the way String.equalsIgnoreCase compares it, so two names fold to the same key exactly when
+     * equalsIgnoreCase would match them.
+     */
+    static String fold(String name) {
+        if (Objects.isNull(name)) {
+            return null;
+        }
+        final var folded = new char[name.length()];
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = Character.toLowerCase(Character.toUpperCase(name.charAt(i)));
+        }
+        return new String(folded);
+    }
+}
@@ -0,0 +1,152 @@
+package com.reliaquest.server.service;
+
+import java.util.AbstractList;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Immutable list that shares its structure with the list it was derived from. Elements sit in the leaves of a
+ * 32-way trie, so {@link #with}, {@link #withAdded} and {@link #withoutLast} copy only the nodes on the path to one
+ * element, O(log32 n), rather than the whole list, and every earlier version stays valid and unchanged.
+ */
+final class PersistentList<E> extends AbstractList<E> implements RandomAccess {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(new Object[WIDTH], 0, 0);
+
+    private final Object[] root;
+    private final int size;
+
+    /*
+     * Bits of the index consumed above the leaves: 0 while the root is a leaf.
+     */
+    private final int shift;
+
+    private PersistentList(Object[] root, int size, int shift) {
+        this.root = root;
+        this.size = size;
+        this.shift = shift;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        return (E) leafFor(index)[index & MASK];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return this list with the element at {@code index} replaced
+     */
+    PersistentList<E> with(int index, E element) {
+        Objects.checkIndex(index, size);
+        return new PersistentList<>(set(root, shift, index, element), size, shift);
+    }
+
+    /**
+     * @return this list with {@code element} appended
+     */
+    PersistentList<E> withAdded(E element) {
+        if (size == 1 << (shift + BITS)) {
+            // The trie is full: a new root holds it as its first child and a fresh path for the new element
+            final var grown = new Object[WIDTH];
+            grown[0] = root;
+            grown[1] = path(shift, element);
+            return new PersistentList<>(grown, size + 1, shift + BITS);
+        }
+        return new PersistentList<>(append(root, shift, size, element), size + 1, shift);
+    }
+
+    /**
+     * @return this list without its last element
+     */
+    PersistentList<E> withoutLast() {
+        if (size == 0) {
+            throw new IllegalStateException("The list is empty");
+        }
+        if (size == 1) {
+            return empty();
+        }
+        var popped = removeLast(root, shift, size - 1);
+        var poppedShift = shift;
+        if (poppedShift > 0 && Objects.isNull(popped[1])) {
+            // Only the first subtree is left, so it becomes the root
+            popped = (Object[]) popped[0];
+            poppedShift -= BITS;
+        }
+        return new PersistentList<>(popped, size - 1, poppedShift);
+    }
+
+    private Object[] leafFor(int index) {
+        var node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+        return node;
+    }
+
+    private static Object[] set(Object[] node, int level, int index, Object element) {
+        final var copy = node.clone();
+        if (level == 0) {
+            copy[index & MASK] = element;
+        } else {
+            final var slot = (index >>> level) & MASK;
+            copy[slot] = set((Object[]) node[slot], level - BITS, index, element);
+        }
+        return copy;
+    }
+
+    private static Object[] append(Object[] node, int level, int index, Object element) {
+        final var copy = node.clone();
+        if (level == 0) {
+            copy[index & MASK] = element;
+        } else {
+            final var slot = (index >>> level) & MASK;
+            final var child = (Object[]) node[slot];
+            copy[slot] =
+                    Objects.isNull(child) ? path(level - BITS, element) : append(child, level - BITS, index, element);
+        }
+        return copy;
+    }
+
+    /*
+     * The last element's leaf, and any node left empty above it, is dropped (null) rather than copied.
+     */
+    private static Object[] removeLast(Object[] node, int level, int index) {
+        final var slot = (index >>> level) & MASK;
+        if (level == 0) {
+            if (slot == 0) {
+                return null;
+            }
+            final var copy = node.clone();
+            copy[slot] = null;
+            return copy;
+        }
+        final var child = removeLast((Object[]) node[slot], level - BITS, index);
+        if (Objects.isNull(child) && slot == 0) {
+            return null;
+        }
+        final var copy = node.clone();
+        copy[slot] = child;
+        return copy;
+    }
+
+    private static Object[] path(int level, Object element) {
+        final var node = new Object[WIDTH];
+        node[0] = level == 0 ? element : path(level - BITS, element);
+        return node;
+    }
+}
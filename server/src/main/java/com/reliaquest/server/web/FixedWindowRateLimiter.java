@@ -0,0 +1,36 @@
+package com.reliaquest.server.web;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * At most {@code limit} requests per window, with windows aligned to the first request after the previous one ended.
+ */
+public class FixedWindowRateLimiter implements RateLimiter {
+
+    private final int limit;
+    private final long windowNanos;
+    private final AtomicReference<Window> window;
+
+    public FixedWindowRateLimiter(int limit, long windowNanos, long nowNanos) {
+        this.limit = limit;
+        this.windowNanos = windowNanos;
+        this.window = new AtomicReference<>(new Window(nowNanos, 0));
+    }
+
+    @Override
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            final var current = window.get();
+            final var expired = nowNanos - current.start() >= windowNanos;
+            if (!expired && current.count() >= limit) {
+                return current.start() + windowNanos - nowNanos;
+            }
+            final var next = expired ? new Window(nowNanos, 1) : new Window(current.start(), current.count() + 1);
+            if (window.compareAndSet(current, next)) {
+                return ADMITTED;
+            }
+        }
+    }
+
+    private record Window(long start, int count) {}
+}
@@ -0,0 +1,82 @@
+package com.reliaquest.server.web;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongFunction;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * One rate limiter per client key, so a noisy client only throttles itself.
+ *
+ * <p>A limiter idle for longer than the window is evicted: by then it would admit exactly like a fresh one, so
+ * eviction does not change any decision. Idle entries are swept off the request path at most once per window.
+ * Memory stays bounded however many distinct keys arrive: past {@code maxPartitions} live clients, new keys share
+ * one overflow limiter until the sweep makes room.
+ */
+@Slf4j
+public class PartitionedRateLimiter {
+
+    private final LongFunction<RateLimiter> factory;
+    private final long idleNanos;
+    private final int maxPartitions;
+    private final Map<String, Partition> partitions = new ConcurrentHashMap<>();
+    private final RateLimiter overflow;
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+    private volatile long nextSweepNanos;
+
+    /**
+     * @param factory creates a limiter given the current {@link System#nanoTime()}
+     */
+    public PartitionedRateLimiter(LongFunction<RateLimiter> factory, long idleNanos, int maxPartitions, long nowNanos) {
+        this.factory = factory;
+        this.idleNanos = idleNanos;
+        this.maxPartitions = maxPartitions;
+        this.overflow = factory.apply(nowNanos);
+        this.nextSweepNanos = nowNanos + idleNanos;
+    }
+
+    /**
+     * @return {@link RateLimiter#ADMITTED}, or the nanoseconds until this client could retry
+     */
+    public long tryAcquire(String key, long nowNanos) {
+        if (nowNanos - nextSweepNanos >= 0 && sweeping.compareAndSet(false, true)) {
+            nextSweepNanos = nowNanos + idleNanos;
+            Thread.ofVirtual().name("rate-limit-sweep").start(() -> sweep(nowNanos));
+        }
+
+        var partition = partitions.get(key);
+        if (partition == null) {
+            if (partitions.size() >= maxPartitions) {
+                return overflow.tryAcquire(nowNanos);
+            }
+            partition = partitions.computeIfAbsent(key, ignored -> new Partition(factory.apply(nowNanos)));
+        }
+        partition.lastSeenNanos = nowNanos;
+        return partition.limiter.tryAcquire(nowNanos);
+    }
+
+    public int size() {
+        return partitions.size();
+    }
+
+    private void sweep(long nowNanos) {
+        try {
+            final var before = partitions.size();
+            partitions.values().removeIf(partition -> nowNanos - partition.lastSeenNanos > idleNanos);
+            log.debug("Evicted {} idle rate limit partitions, {} left", before - partitions.size(), partitions.size());
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    private static final class Partition {
+
+        private final RateLimiter limiter;
+        private volatile long lastSeenNanos;
+
+        private Partition(RateLimiter limiter) {
+            this.limiter = limiter;
+        }
+    }
+}
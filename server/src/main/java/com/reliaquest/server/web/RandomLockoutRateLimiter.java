@@ -0,0 +1,38 @@
+package com.reliaquest.server.web;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The mock's original behavior: {@code limit} requests are admitted, after which every request is rejected until
+ * {@code lockout} has passed since the last admitted one, and counting starts over.
+ */
+public class RandomLockoutRateLimiter implements RateLimiter {
+
+    private final int limit;
+    private final long lockoutNanos;
+    private final AtomicReference<Count> count;
+
+    public RandomLockoutRateLimiter(int limit, long lockoutNanos, long nowNanos) {
+        this.limit = limit;
+        this.lockoutNanos = lockoutNanos;
+        this.count = new AtomicReference<>(new Count(0, nowNanos));
+    }
+
+    @Override
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            final var current = count.get();
+            final var lockedOut = current.admitted() >= limit;
+            final var lockoutLeft = current.lastAdmittedNanos() + lockoutNanos - nowNanos;
+            if (lockedOut && lockoutLeft > 0) {
+                return lockoutLeft;
+            }
+            final var next = new Count(lockedOut ? 1 : current.admitted() + 1, nowNanos);
+            if (count.compareAndSet(current, next)) {
+                return ADMITTED;
+            }
+        }
+    }
+
+    private record Count(int admitted, long lastAdmittedNanos) {}
+}
@@ -0,0 +1,32 @@
+package com.reliaquest.server.web;
+
+import java.time.Duration;
+
+/**
+ * The rate limiters the mock can put in front of its endpoints, selected with {@code mock.rate-limit.algorithm}.
+ */
+public enum RateLimitAlgorithm {
+    RANDOM_LOCKOUT,
+    FIXED_WINDOW,
+    SLIDING_LOG,
+    TOKEN_BUCKET,
+    NONE;
+
+    /**
+     * @param window the lockout for {@link #RANDOM_LOCKOUT}, otherwise the window {@code limit} applies to
+     */
+    public RateLimiter create(int limit, Duration window) {
+        return create(limit, window, System.nanoTime());
+    }
+
+    public RateLimiter create(int limit, Duration window, long now) {
+        final var windowNanos = window.toNanos();
+        return switch (this) {
+            case RANDOM_LOCKOUT -> new RandomLockoutRateLimiter(limit, windowNanos, now);
+            case FIXED_WINDOW -> new FixedWindowRateLimiter(limit, windowNanos, now);
+            case SLIDING_LOG -> new SlidingWindowLogRateLimiter(limit, windowNanos, now);
+            case TOKEN_BUCKET -> new TokenBucketRateLimiter(limit, windowNanos, now);
+            case NONE -> nowNanos -> RateLimiter.ADMITTED;
+        };
+    }
+}
@@ -0,0 +1,26 @@
+package com.reliaquest.server.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.Objects;
+
+/**
+ * How requests are grouped into clients for rate limiting, selected with {@code mock.rate-limit.partition-by}.
+ */
+public enum RateLimitPartitioning {
+    /** One limit shared by every caller. */
+    NONE,
+    REMOTE_ADDRESS,
+    /** The value of {@code mock.rate-limit.client-header}, or the remote address for requests without it. */
+    HEADER;
+
+    public String clientKey(HttpServletRequest request, String header) {
+        return switch (this) {
+            case NONE -> "";
+            case REMOTE_ADDRESS -> request.getRemoteAddr();
+            case HEADER -> {
+                final var value = request.getHeader(header);
+                yield Objects.isNull(value) ? request.getRemoteAddr() : value;
+            }
+        };
+    }
+}
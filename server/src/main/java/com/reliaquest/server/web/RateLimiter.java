@@ -0,0 +1,18 @@
+package com.reliaquest.server.web;
+
+/**
+ * Admission check for one request. Implementations keep their state in atomic references and commit each decision
+ * with a single compare-and-set, so concurrent requests can neither over-admit nor reset the state under each other.
+ */
+public interface RateLimiter {
+
+    long ADMITTED = 0;
+
+    /**
+     * Counts the request if it is admitted.
+     *
+     * @param nowNanos the request's {@link System#nanoTime()}, read once per request
+     * @return {@link #ADMITTED}, or the nanoseconds until a retry could be admitted
+     */
+    long tryAcquire(long nowNanos);
+}
@@ -0,0 +1,53 @@
+package com.reliaquest.server.web;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * At most {@code limit} requests in any window-long interval. The log holds the admission times of the last {@code
+ * limit} requests in a ring: the next request is admitted once the oldest of them has left the window.
+ *
+ * <p>Admission {@code n} claims ring slot {@code n % limit} by swapping out the stamp left there by admission {@code
+ * n - limit}, then moves the head on. A request that finds the slot already claimed for {@code n} helps move the head
+ * on instead of waiting for the claimer, so the log stays lock-free.
+ */
+public class SlidingWindowLogRateLimiter implements RateLimiter {
+
+    private final long windowNanos;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicReferenceArray<Stamp> log;
+
+    public SlidingWindowLogRateLimiter(int limit, long windowNanos, long nowNanos) {
+        this.windowNanos = windowNanos;
+        this.log = new AtomicReferenceArray<>(limit);
+        for (int slot = 0; slot < limit; slot++) {
+            log.set(slot, new Stamp(slot - limit, nowNanos - windowNanos));
+        }
+    }
+
+    @Override
+    public long tryAcquire(long nowNanos) {
+        final var limit = log.length();
+        while (true) {
+            final var admission = head.get();
+            final var slot = (int) (admission % limit);
+            final var oldest = log.get(slot);
+            if (oldest.admission() == admission) {
+                head.compareAndSet(admission, admission + 1); // claimed, but the head has not moved on yet
+                continue;
+            }
+            if (oldest.admission() != admission - limit) {
+                continue; // read a head that has moved on since
+            }
+            if (nowNanos - oldest.nanos() < windowNanos) {
+                return oldest.nanos() + windowNanos - nowNanos;
+            }
+            if (log.compareAndSet(slot, oldest, new Stamp(admission, nowNanos))) {
+                head.compareAndSet(admission, admission + 1);
+                return ADMITTED;
+            }
+        }
+    }
+
+    private record Stamp(long admission, long nanos) {}
+}
@@ -0,0 +1,37 @@
+package com.reliaquest.server.web;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Bursts of up to {@code capacity} requests, refilled at {@code capacity} tokens per window. Tokens are kept in
+ * nanoseconds of refill time, so the refill is exact integer arithmetic.
+ */
+public class TokenBucketRateLimiter implements RateLimiter {
+
+    private final long nanosPerToken;
+    private final long capacityNanos;
+    private final AtomicReference<Bucket> bucket;
+
+    public TokenBucketRateLimiter(int capacity, long windowNanos, long nowNanos) {
+        this.nanosPerToken = Math.max(1, windowNanos / capacity);
+        this.capacityNanos = nanosPerToken * capacity;
+        this.bucket = new AtomicReference<>(new Bucket(capacityNanos, nowNanos));
+    }
+
+    @Override
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            final var current = bucket.get();
+            final var elapsed = Math.max(0, nowNanos - current.updatedNanos());
+            final var available = Math.min(capacityNanos, current.tokenNanos() + elapsed);
+            if (available < nanosPerToken) {
+                return nanosPerToken - available;
+            }
+            if (bucket.compareAndSet(current, new Bucket(available - nanosPerToken, nowNanos))) {
+                return ADMITTED;
+            }
+        }
+    }
+
+    private record Bucket(long tokenNanos, long updatedNanos) {}
+}
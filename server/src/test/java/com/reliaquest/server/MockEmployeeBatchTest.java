@@ -0,0 +1,119 @@
+package com.reliaquest.server;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.controller.MockEmployeeController;
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeBatchResult;
+import com.reliaquest.server.model.MockEmployeeChange;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.service.MockEmployeeStore;
+import jakarta.validation.Validation;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeBatchTest {
+
+    private MockEmployeeStore store;
+    private MockEmployeeService service;
+    private MockEmployeeController controller;
+
+    @BeforeEach
+    void setUp() {
+        store = new MockEmployeeStore(List.of());
+        service = new MockEmployeeService(new Faker(Locale.US), store);
+        controller = new MockEmployeeController(
+                service,
+                new ObjectMapper(),
+                Validation.buildDefaultValidatorFactory().getValidator());
+    }
+
+    @Test
+    void createEmployees_ShouldCreateTheValidInputsAndReportTheRestAtTheirIndex() {
+        // Given
+        List<CreateMockEmployeeInput> inputs = new ArrayList<>();
+        inputs.add(input("First", 30));
+        inputs.add(input("Too Young", 15));
+        inputs.add(null);
+        inputs.add(input("Last", 75));
+        String token = syncToken();
+
+        // When
+        List<MockEmployeeBatchResult<MockEmployee>> results =
+                controller.createEmployees(inputs).data();
+
+        // Then
+        assertEquals(
+                List.of(0, 1, 2, 3),
+                results.stream().map(MockEmployeeBatchResult::index).toList());
+        assertEquals("First", results.get(0).data().getName());
+        assertNull(results.get(0).error());
+        assertNull(results.get(1).data());
+        assertTrue(results.get(1).error().startsWith("age "), results.get(1).error());
+        assertEquals("Input must not be null", results.get(2).error());
+        assertEquals("Last", results.get(3).data().getName());
+        assertEquals(List.of(results.get(0).data(), results.get(3).data()), store.getEmployees());
+        assertEquals(
+                List.of(MockEmployeeChange.Type.CREATED, MockEmployeeChange.Type.CREATED),
+                service.changesSince(token).orElseThrow().changes().stream()
+                        .map(MockEmployeeChange::type)
+                        .toList());
+    }
+
+    @Test
+    void deleteEmployees_ShouldReportEachIdOnItsOwn() {
+        // Given
+        List<MockEmployee> created = service.createAll(List.of(input("Kept", 30), input("Deleted", 30)));
+        String deleted = created.get(1).getId().toString();
+        String missing = UUID.randomUUID().toString();
+
+        // When
+        List<MockEmployeeBatchResult<MockEmployee>> results = controller
+                .deleteEmployees(Arrays.asList(deleted, "not-a-uuid", missing, null, deleted))
+                .data();
+
+        // Then
+        assertEquals(created.get(1), results.get(0).data());
+        assertEquals("Invalid id: not-a-uuid", results.get(1).error());
+        assertEquals("Not found: " + missing, results.get(2).error());
+        assertEquals("Invalid id: null", results.get(3).error());
+        assertEquals("Not found: " + deleted, results.get(4).error());
+        assertEquals(List.of(created.get(0)), store.getEmployees());
+    }
+
+    @Test
+    void batchEndpoints_ShouldRejectEmptyAndOversizedBatches() {
+        // Given
+        List<CreateMockEmployeeInput> oversized =
+                Collections.nCopies(MockEmployeeService.MAX_BATCH_SIZE + 1, input("Batch", 30));
+
+        // When / Then
+        assertThrows(IllegalArgumentException.class, () -> controller.createEmployees(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> controller.createEmployees(oversized));
+        assertThrows(IllegalArgumentException.class, () -> controller.deleteEmployees(null));
+        assertTrue(store.getEmployees().isEmpty());
+    }
+
+    private String syncToken() {
+        String eTag = service.getRosterETag();
+        return eTag.substring(3, eTag.length() - 1);
+    }
+
+    private static CreateMockEmployeeInput input(String name, int age) {
+        CreateMockEmployeeInput input = new CreateMockEmployeeInput();
+        input.setName(name);
+        input.setSalary(50_000);
+        input.setAge(age);
+        input.setTitle("Engineer");
+        return input;
+    }
+}
@@ -0,0 +1,192 @@
+package com.reliaquest.server;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.controller.MockEmployeeController;
+import com.reliaquest.server.controller.MockEmployeeControllerAdvice;
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChange;
+import com.reliaquest.server.model.MockEmployeeChanges;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.service.MockEmployeeStore;
+import jakarta.validation.Validation;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+class MockEmployeeChangesTest {
+
+    private MockEmployeeService service;
+    private MockEmployeeController controller;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        service = new MockEmployeeService(new Faker(Locale.US), new MockEmployeeStore(List.of()));
+        controller = new MockEmployeeController(
+                service,
+                new ObjectMapper(),
+                Validation.buildDefaultValidatorFactory().getValidator());
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new MockEmployeeControllerAdvice())
+                .build();
+    }
+
+    @Test
+    void changesSince_ShouldReturnTheChangesAndTheNextToken() {
+        // Given
+        String token = syncToken();
+        MockEmployee created = service.create(input("Created"));
+        service.deleteAllById(List.of(created.getId()));
+
+        // When
+        MockEmployeeChanges changes = service.changesSince(token).orElseThrow();
+
+        // Then
+        assertEquals(
+                List.of(MockEmployeeChange.Type.CREATED, MockEmployeeChange.Type.DELETED),
+                changes.changes().stream().map(MockEmployeeChange::type).toList());
+        assertEquals(syncToken(), changes.syncToken());
+        assertEquals(
+                List.of(),
+                service.changesSince(changes.syncToken()).orElseThrow().changes());
+        assertEquals(
+                changes.syncToken(),
+                service.changesSince(changes.syncToken()).orElseThrow().syncToken());
+    }
+
+    @Test
+    void changesSince_ShouldKeepExactlyTheLogCapacity() {
+        // Given
+        String token = syncToken();
+        createMany(MockEmployeeService.CHANGE_LOG_CAPACITY);
+        String afterFirst = service.syncToken(1);
+
+        // When
+        Optional<MockEmployeeChanges> full = service.changesSince(token);
+        service.create(input("One Too Many"));
+        Optional<MockEmployeeChanges> overrun = service.changesSince(token);
+        Optional<MockEmployeeChanges> justRetained = service.changesSince(afterFirst);
+
+        // Then
+        assertEquals(
+                MockEmployeeService.CHANGE_LOG_CAPACITY,
+                full.orElseThrow().changes().size());
+        assertTrue(overrun.isEmpty());
+        List<MockEmployeeChange> retained = justRetained.orElseThrow().changes();
+        assertEquals(MockEmployeeService.CHANGE_LOG_CAPACITY, retained.size());
+        assertEquals(2, retained.get(0).sequence());
+        assertEquals(
+                "One Too Many", retained.get(retained.size() - 1).employee().getName());
+    }
+
+    @Test
+    void changesSince_ShouldBeEmpty_ForATokenFromAnotherInstanceOrAheadOfTheLog() {
+        // Given
+        MockEmployeeService other = new MockEmployeeService(new Faker(Locale.US), new MockEmployeeStore(List.of()));
+        service.create(input("Created"));
+
+        // When / Then
+        assertTrue(service.changesSince(other.syncToken(0)).isEmpty());
+        assertTrue(service.changesSince(service.syncToken(2)).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> service.changesSince("garbage"));
+    }
+
+    @Test
+    void getChanges_ShouldAnswerGone_WhenTheChangesAreNoLongerAvailable() throws Exception {
+        // Given
+        MockEmployeeService other = new MockEmployeeService(new Faker(Locale.US), new MockEmployeeStore(List.of()));
+
+        // When / Then
+        assertEquals(HttpStatus.GONE, controller.getChanges(other.syncToken(0)).getStatusCode());
+        assertEquals(HttpStatus.OK, controller.getChanges(syncToken()).getStatusCode());
+        mockMvc.perform(get("/api/v1/employee/changes").param("since", "garbage"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void streamChanges_ShouldResumeAfterTheLastEventId_AndPassOnNewChanges() throws Exception {
+        // Given
+        String token = syncToken();
+        service.create(input("Seen"));
+        String lastEventId = syncToken();
+        service.create(input("Missed"));
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/v1/employee/changes/stream")
+                        .param("since", token)
+                        .header("Last-Event-ID", lastEventId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        service.create(input("Live"));
+
+        // Then
+        MockHttpServletResponse response = result.getResponse();
+        String events = awaitContent(response, "Live");
+        assertFalse(events.contains("Seen"), events);
+        assertTrue(events.indexOf("Missed") < events.indexOf("Live"), events);
+        assertTrue(events.contains("id:" + service.syncToken(2)), events);
+        assertTrue(events.contains("id:" + service.syncToken(3)), events);
+        assertTrue(events.contains("event:CREATED"), events);
+    }
+
+    @Test
+    void streamChanges_ShouldAnswerGone_ForAStaleLastEventId() throws Exception {
+        // Given
+        MockEmployeeService other = new MockEmployeeService(new Faker(Locale.US), new MockEmployeeStore(List.of()));
+
+        // When / Then
+        assertEquals(
+                HttpStatus.GONE,
+                controller.streamChanges(syncToken(), other.syncToken(0)).getStatusCode());
+        assertThrows(IllegalArgumentException.class, () -> controller.streamChanges(null, null));
+    }
+
+    private String syncToken() {
+        String eTag = service.getRosterETag();
+        return eTag.substring(3, eTag.length() - 1);
+    }
+
+    private void createMany(int count) {
+        List<CreateMockEmployeeInput> batch = new ArrayList<>(MockEmployeeService.MAX_BATCH_SIZE);
+        for (int i = 0; i < count; i += batch.size()) {
+            batch = Collections.nCopies(Math.min(MockEmployeeService.MAX_BATCH_SIZE, count - i), input("Batch"));
+            service.createAll(batch);
+        }
+    }
+
+    private static String awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        String content = response.getContentAsString();
+        while (!content.contains(expected) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            content = response.getContentAsString();
+        }
+        return content;
+    }
+
+    private static CreateMockEmployeeInput input(String name) {
+        CreateMockEmployeeInput input = new CreateMockEmployeeInput();
+        input.setName(name);
+        input.setSalary(50_000);
+        input.setAge(30);
+        input.setTitle("Engineer");
+        return input;
+    }
+}
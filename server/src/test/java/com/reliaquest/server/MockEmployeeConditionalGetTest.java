@@ -0,0 +1,88 @@
+package com.reliaquest.server;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.controller.MockEmployeeController;
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.service.MockEmployeeStore;
+import jakarta.validation.Validation;
+import java.util.List;
+import java.util.Locale;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+class MockEmployeeConditionalGetTest {
+
+    private MockEmployeeService service;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        service = new MockEmployeeService(new Faker(Locale.US), new MockEmployeeStore(List.of()));
+        mockMvc = MockMvcBuilders.standaloneSetup(new MockEmployeeController(
+                        service,
+                        new ObjectMapper(),
+                        Validation.buildDefaultValidatorFactory().getValidator()))
+                .build();
+    }
+
+    @Test
+    void getEmployees_ShouldAnswerNotModified_WhenTheETagStillMatches() throws Exception {
+        // Given
+        String eTag = mockMvc.perform(get("/api/v1/employee"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        // When / Then
+        assertNotNull(eTag);
+        assertTrue(eTag.startsWith("W/\""), eTag);
+        mockMvc.perform(get("/api/v1/employee").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag));
+    }
+
+    @Test
+    void getEmployees_ShouldAnswerWithTheNewRoster_AfterAChange() throws Exception {
+        // Given
+        String eTag = service.getRosterETag();
+        service.create(input("New Hire"));
+
+        // When / Then
+        String newETag = mockMvc.perform(get("/api/v1/employee").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+        assertNotEquals(eTag, newETag);
+        assertEquals(service.getRosterETag(), newETag);
+    }
+
+    @Test
+    void getRosterETag_ShouldDifferBetweenServerInstances_ForTheSameVersion() {
+        // Given
+        MockEmployeeService other = new MockEmployeeService(new Faker(Locale.US), new MockEmployeeStore(List.of()));
+
+        // When / Then
+        assertNotEquals(service.getRosterETag(), other.getRosterETag());
+    }
+
+    private static CreateMockEmployeeInput input(String name) {
+        CreateMockEmployeeInput input = new CreateMockEmployeeInput();
+        input.setName(name);
+        input.setSalary(50_000);
+        input.setAge(30);
+        input.setTitle("Engineer");
+        return input;
+    }
+}
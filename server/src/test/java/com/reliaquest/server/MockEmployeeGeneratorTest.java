@@ -0,0 +1,65 @@
+package com.reliaquest.server;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmployeeGenerator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeGeneratorTest {
+
+    @Test
+    void generate_ShouldReturnTheSameRoster_ForTheSameSeedAtAnyParallelism() {
+        // Given
+        MockEmployeeGenerator sequential = new MockEmployeeGenerator(Locale.US, 42L, 7, 1, false);
+        MockEmployeeGenerator parallel = new MockEmployeeGenerator(Locale.US, 42L, 7, 4, false);
+
+        // When
+        List<MockEmployee> first = sequential.generate(50);
+        List<MockEmployee> second = parallel.generate(50);
+
+        // Then
+        assertEquals(50, first.size());
+        assertEquals(first, second);
+        assertEquals(50, new HashSet<>(first.stream().map(MockEmployee::getId).toList()).size());
+    }
+
+    @Test
+    void generate_ShouldReturnDifferentRosters_ForDifferentSeeds() {
+        // Given
+        MockEmployeeGenerator generator = new MockEmployeeGenerator(Locale.US, 42L, 7, 1, false);
+        MockEmployeeGenerator other = new MockEmployeeGenerator(Locale.US, 43L, 7, 1, false);
+
+        // When / Then
+        assertNotEquals(generator.generate(10), other.generate(10));
+    }
+
+    @Test
+    void generate_ShouldCreateValidEmployees() {
+        // Given
+        MockEmployeeGenerator generator = new MockEmployeeGenerator(Locale.US, 1L, 3, 2, false);
+
+        // When
+        List<MockEmployee> roster = generator.generate(10);
+
+        // Then
+        for (MockEmployee employee : roster) {
+            assertEquals(4, employee.getId().version());
+            assertFalse(employee.getName().isBlank());
+            assertTrue(employee.getAge() >= 16 && employee.getAge() <= 75);
+            assertTrue(employee.getSalary() > 0);
+            assertTrue(employee.getEmail().endsWith("@company.com"));
+        }
+    }
+
+    @Test
+    void generate_ShouldReturnAnEmptyRoster_ForZeroEmployees() {
+        // When / Then
+        assertTrue(new MockEmployeeGenerator(Locale.US, 1L, 3, 2, false)
+                .generate(0)
+                .isEmpty());
+    }
+}
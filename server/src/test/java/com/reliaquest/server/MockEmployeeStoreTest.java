@@ -0,0 +1,233 @@
+package com.reliaquest.server;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmployeeStore;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeStoreTest {
+
+    @Test
+    void removeAllById_ShouldMoveTheLastEmployeeIntoTheGap_WhenRemovingTheFirst() {
+        // Given
+        List<MockEmployee> employees = employees(4);
+        MockEmployeeStore store = new MockEmployeeStore(employees);
+
+        // When
+        store.removeAllById(List.of(employees.get(0).getId()));
+
+        // Then
+        assertEquals(List.of(employees.get(3), employees.get(1), employees.get(2)), store.getEmployees());
+        assertRemovable(store, employees.get(3));
+    }
+
+    @Test
+    void removeAllById_ShouldKeepTheOrder_WhenRemovingTheLast() {
+        // Given
+        List<MockEmployee> employees = employees(3);
+        MockEmployeeStore store = new MockEmployeeStore(employees);
+
+        // When
+        store.removeAllById(List.of(employees.get(2).getId()));
+
+        // Then
+        assertEquals(employees.subList(0, 2), store.getEmployees());
+        assertRemovable(store, employees.get(1));
+    }
+
+    @Test
+    void removeAllById_ShouldEmptyTheStore_WhenRemovingTheOnlyEmployee() {
+        // Given
+        MockEmployee only = employees(1).get(0);
+        MockEmployeeStore store = new MockEmployeeStore(List.of(only));
+
+        // When
+        List<Optional<MockEmployee>> removed = store.removeAllById(List.of(only.getId()));
+
+        // Then
+        assertEquals(List.of(Optional.of(only)), removed);
+        assertTrue(store.getEmployees().isEmpty());
+        assertEquals(0, store.size());
+        assertTrue(store.findById(only.getId()).isEmpty());
+        assertTrue(store.findFirstByName(only.getName()).isEmpty());
+
+        MockEmployee added = employees(1).get(0);
+        store.add(added);
+        assertEquals(List.of(added), store.getEmployees());
+    }
+
+    @Test
+    void removeAllById_ShouldRemoveADuplicatedIdOnce() {
+        // Given
+        List<MockEmployee> employees = employees(3);
+        MockEmployeeStore store = new MockEmployeeStore(employees);
+        UUID first = employees.get(0).getId();
+
+        // When
+        List<Optional<MockEmployee>> removed =
+                store.removeAllById(List.of(first, employees.get(1).getId(), first));
+
+        // Then
+        assertEquals(List.of(Optional.of(employees.get(0)), Optional.of(employees.get(1)), Optional.empty()), removed);
+        assertEquals(List.of(employees.get(2)), store.getEmployees());
+        assertRemovable(store, employees.get(2));
+    }
+
+    @Test
+    void getEmployees_ShouldKeepAPublishedRosterUnchanged_WhenWritesFollow() {
+        // Given
+        List<MockEmployee> employees = employees(3);
+        MockEmployeeStore store = new MockEmployeeStore(employees);
+        List<MockEmployee> before = store.getEmployees();
+
+        // When
+        store.removeAllById(List.of(employees.get(0).getId()));
+        store.add(employees(1).get(0));
+
+        // Then
+        assertEquals(employees, before);
+        assertThrows(UnsupportedOperationException.class, () -> before.remove(0));
+        assertEquals(3, store.size());
+    }
+
+    @Test
+    void getEmployees_ShouldMatchAnArrayListModel_AcrossGrowingAndShrinkingRosters() {
+        // Given
+        Random random = new Random(7);
+        List<MockEmployee> model = new ArrayList<>(employees(40));
+        MockEmployeeStore store = new MockEmployeeStore(model);
+        List<List<MockEmployee>> published = new ArrayList<>();
+        List<List<MockEmployee>> expected = new ArrayList<>();
+
+        // When: grow past two trie levels (32 and 1024 employees), then shrink back to nothing
+        for (int round = 0; round < 2; round++) {
+            while (model.size() < 1_100) {
+                List<MockEmployee> added = employees(1 + random.nextInt(60));
+                store.addAll(added);
+                model.addAll(added);
+                removeRandom(random, store, model);
+                published.add(store.getEmployees());
+                expected.add(List.copyOf(model));
+            }
+            while (!model.isEmpty()) {
+                removeRandom(random, store, model);
+                removeRandom(random, store, model);
+                published.add(store.getEmployees());
+                expected.add(List.copyOf(model));
+            }
+        }
+
+        // Then
+        assertEquals(expected, published);
+        assertTrue(store.getEmployees().isEmpty());
+    }
+
+    @Test
+    void removeFirstByName_ShouldRemoveTheEarliestAdded_IgnoringCase() {
+        // Given
+        List<MockEmployee> employees = new ArrayList<>(employees(2));
+        MockEmployee twin = employees.get(0).toBuilder().id(UUID.randomUUID()).build();
+        employees.add(twin);
+        MockEmployeeStore store = new MockEmployeeStore(employees);
+
+        // When
+        Optional<MockEmployee> removed =
+                store.removeFirstByName(employees.get(0).getName().toUpperCase());
+
+        // Then
+        assertSame(employees.get(0), removed.orElseThrow());
+        assertSame(twin, store.findFirstByName(twin.getName()).orElseThrow());
+        assertEquals(List.of(twin, employees.get(1)), store.getEmployees());
+    }
+
+    @Test
+    void removeFirstByName_ShouldRemoveDifferentEmployees_WhenDeletesOfOneNameRace() throws Exception {
+        // Given
+        List<MockEmployee> twins = new ArrayList<>();
+        for (MockEmployee employee : employees(200)) {
+            twins.add(employee.toBuilder().name("Same Name").build());
+        }
+        MockEmployeeStore store = new MockEmployeeStore(twins);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Optional<MockEmployee>>> futures = new ArrayList<>();
+
+        // When
+        try {
+            for (int i = 0; i < 250; i++) {
+                String name = i % 2 == 0 ? "same name" : "SAME NAME";
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return store.removeFirstByName(name);
+                }));
+            }
+            start.countDown();
+            List<MockEmployee> removed = new ArrayList<>();
+            for (Future<Optional<MockEmployee>> future : futures) {
+                future.get(30, TimeUnit.SECONDS).ifPresent(removed::add);
+            }
+
+            // Then
+            assertEquals(200, removed.size());
+            assertEquals(
+                    200, new HashSet<>(removed.stream().map(MockEmployee::getId).toList()).size());
+            assertTrue(store.getEmployees().isEmpty());
+            assertTrue(store.findFirstByName("Same Name").isEmpty());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /*
+     * Removes a random employee from the store and the model alike: the last employee takes its place.
+     */
+    private static void removeRandom(Random random, MockEmployeeStore store, List<MockEmployee> model) {
+        if (model.isEmpty()) {
+            return;
+        }
+        int position = random.nextInt(model.size());
+        MockEmployee last = model.remove(model.size() - 1);
+        MockEmployee removed = position < model.size() ? model.set(position, last) : last;
+        assertEquals(List.of(Optional.of(removed)), store.removeAllById(List.of(removed.getId())));
+    }
+
+    /*
+     * Removing an employee after a swap only works if its recorded position followed it.
+     */
+    private static void assertRemovable(MockEmployeeStore store, MockEmployee employee) {
+        List<MockEmployee> before = new ArrayList<>(store.getEmployees());
+        assertEquals(List.of(Optional.of(employee)), store.removeAllById(List.of(employee.getId())));
+        before.remove(employee);
+        assertEquals(before.size(), store.size());
+        assertTrue(store.getEmployees().containsAll(before));
+        assertFalse(store.getEmployees().contains(employee));
+    }
+
+    private static List<MockEmployee> employees(int count) {
+        List<MockEmployee> employees = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            UUID id = UUID.randomUUID();
+            employees.add(MockEmployee.builder()
+                    .id(id)
+                    .name("Employee " + id)
+                    .salary(50_000)
+                    .age(30)
+                    .title("Engineer")
+                    .email(id + "@company.com")
+                    .build());
+        }
+        return employees;
+    }
+}
@@ -0,0 +1,120 @@
+package com.reliaquest.server;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.web.FixedWindowRateLimiter;
+import com.reliaquest.server.web.PartitionedRateLimiter;
+import com.reliaquest.server.web.RateLimitAlgorithm;
+import com.reliaquest.server.web.RateLimitPartitioning;
+import com.reliaquest.server.web.RateLimiter;
+import com.reliaquest.server.web.RequestLimitInterceptor;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class PartitionedRateLimiterTest {
+
+    private static final long WINDOW = 100;
+
+    @Test
+    void tryAcquire_ShouldLimitEachClientOnItsOwn() {
+        // Given
+        PartitionedRateLimiter limiter =
+                new PartitionedRateLimiter(now -> new FixedWindowRateLimiter(2, WINDOW, now), WINDOW, 10, 0);
+
+        // When
+        limiter.tryAcquire("noisy", 1);
+        limiter.tryAcquire("noisy", 2);
+
+        // Then
+        assertNotEquals(RateLimiter.ADMITTED, limiter.tryAcquire("noisy", 3));
+        assertEquals(RateLimiter.ADMITTED, limiter.tryAcquire("quiet", 3));
+        assertEquals(RateLimiter.ADMITTED, limiter.tryAcquire("quiet", 4));
+        assertEquals(2, limiter.size());
+    }
+
+    @Test
+    void tryAcquire_ShouldShareOneOverflowLimiter_PastMaxPartitions() {
+        // Given
+        PartitionedRateLimiter limiter =
+                new PartitionedRateLimiter(now -> new FixedWindowRateLimiter(1, WINDOW, now), WINDOW, 2, 0);
+        limiter.tryAcquire("first", 1);
+        limiter.tryAcquire("second", 1);
+
+        // When
+        long third = limiter.tryAcquire("third", 2);
+        long fourth = limiter.tryAcquire("fourth", 2);
+
+        // Then
+        assertEquals(RateLimiter.ADMITTED, third);
+        assertNotEquals(RateLimiter.ADMITTED, fourth);
+        assertEquals(2, limiter.size());
+    }
+
+    @Test
+    void tryAcquire_ShouldEvictIdleClients_OnceAWindowHasPassed() throws Exception {
+        // Given
+        PartitionedRateLimiter limiter =
+                new PartitionedRateLimiter(now -> new FixedWindowRateLimiter(1, WINDOW, now), WINDOW, 10, 0);
+        limiter.tryAcquire("idle", 1);
+        limiter.tryAcquire("recent", 1);
+        limiter.tryAcquire("recent", 90);
+
+        // When
+        limiter.tryAcquire("new", 150);
+
+        // Then
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (limiter.size() > 2 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(2, limiter.size());
+    }
+
+    @Test
+    void clientKey_ShouldFallBackToTheRemoteAddress_WhenTheHeaderIsMissing() {
+        // Given
+        MockHttpServletRequest withHeader = new MockHttpServletRequest();
+        withHeader.setRemoteAddr("10.0.0.1");
+        withHeader.addHeader("X-Client-Id", "client-a");
+        MockHttpServletRequest withoutHeader = new MockHttpServletRequest();
+        withoutHeader.setRemoteAddr("10.0.0.2");
+
+        // When / Then
+        assertEquals("client-a", RateLimitPartitioning.HEADER.clientKey(withHeader, "X-Client-Id"));
+        assertEquals("10.0.0.2", RateLimitPartitioning.HEADER.clientKey(withoutHeader, "X-Client-Id"));
+        assertEquals("10.0.0.1", RateLimitPartitioning.REMOTE_ADDRESS.clientKey(withHeader, "X-Client-Id"));
+        assertEquals("", RateLimitPartitioning.NONE.clientKey(withHeader, "X-Client-Id"));
+    }
+
+    @Test
+    void preHandle_ShouldAnswerTooManyRequestsWithARetryAfter_ForARejectedClient() {
+        // Given
+        Duration window = Duration.ofSeconds(90);
+        PartitionedRateLimiter limiter = new PartitionedRateLimiter(
+                now -> RateLimitAlgorithm.FIXED_WINDOW.create(1, window, now), window.toNanos(), 10, System.nanoTime());
+        RequestLimitInterceptor interceptor =
+                new RequestLimitInterceptor(limiter, RateLimitPartitioning.HEADER, "X-Client-Id");
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("X-Client-Id", "client-a");
+        MockHttpServletRequest otherClient = new MockHttpServletRequest();
+        otherClient.addHeader("X-Client-Id", "client-b");
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+
+        // When
+        boolean first = interceptor.preHandle(request, new MockHttpServletResponse(), null);
+        boolean second = interceptor.preHandle(request, rejected, null);
+        boolean other = interceptor.preHandle(otherClient, new MockHttpServletResponse(), null);
+
+        // Then
+        assertTrue(first);
+        assertFalse(second);
+        assertTrue(other);
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), rejected.getStatus());
+        long retryAfter = Long.parseLong(rejected.getHeader(HttpHeaders.RETRY_AFTER));
+        assertTrue(retryAfter >= 1 && retryAfter <= 90, "Retry-After " + retryAfter);
+    }
+}
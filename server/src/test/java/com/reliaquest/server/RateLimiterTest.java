@@ -0,0 +1,153 @@
+package com.reliaquest.server;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.web.FixedWindowRateLimiter;
+import com.reliaquest.server.web.RandomLockoutRateLimiter;
+import com.reliaquest.server.web.RateLimitAlgorithm;
+import com.reliaquest.server.web.RateLimiter;
+import com.reliaquest.server.web.SlidingWindowLogRateLimiter;
+import com.reliaquest.server.web.TokenBucketRateLimiter;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class RateLimiterTest {
+
+    private static final int THREADS = 8;
+    private static final int ATTEMPTS_PER_THREAD = 2_000;
+
+    @Test
+    void randomLockout_ShouldRejectUntilTheLockoutHasPassedSinceTheLastAdmission() {
+        // Given
+        RateLimiter limiter = new RandomLockoutRateLimiter(3, 100, 0);
+
+        // When / Then
+        assertEquals(RateLimiter.ADMITTED, limiter.tryAcquire(0));
+        assertEquals(RateLimiter.ADMITTED, limiter.tryAcquire(1));
+        assertEquals(RateLimiter.ADMITTED, limiter.tryAcquire(2));
+        assertEquals(99, limiter.tryAcquire(3));
+        assertEquals(1, limiter.tryAcquire(101));
+        assertEquals(RateLimiter.ADMITTED, limiter.tryAcquire(102));
+        assertEquals(RateLimiter.ADMITTED, limiter.tryAcquire(103));
+    }
+
+    @Test
+    void fixedWindow_ShouldStartANewWindowAtTheFirstRequestAfterTheLastEnded() {
+        // Given
+        RateLimiter limiter = new FixedWindowRateLimiter(3, 100, 0);
+
+        // When / Then
+        assertEquals(RateLimiter.ADMITTED, limiter.tryAcquire(10));
+        assertEquals(RateLimiter.ADMITTED, limiter.tryAcquire(20));
+        assertEquals(RateLimiter.ADMITTED, limiter.tryAcquire(30));
+        assertEquals(60, limiter.tryAcquire(40));
+        assertEquals(RateLimiter.ADMITTED, limiter.tryAcquire(100));
+        assertEquals(RateLimiter.ADMITTED, limiter.tryAcquire(150));
+        assertEquals(RateLimiter.ADMITTED, limiter.tryAcquire(199));
+        assertEquals(1, limiter.tryAcquire(199));
+    }
+
+    @Test
+    void slidingLog_ShouldAdmitOnceTheOldestLoggedRequestLeavesTheWindow() {
+        // Given
+        RateLimiter limiter = new SlidingWindowLogRateLimiter(3, 100, 0);
+
+        // When / Then
+        assertEquals(RateLimiter.ADMITTED, limiter.tryAcquire(0));
+        assertEquals(RateLimiter.ADMITTED, limiter.tryAcquire(50));
+        assertEquals(RateLimiter.ADMITTED, limiter.tryAcquire(60));
+        assertEquals(10, limiter.tryAcquire(90));
+        assertEquals(RateLimiter.ADMITTED, limiter.tryAcquire(100));
+        assertEquals(30, limiter.tryAcquire(120));
+        assertEquals(RateLimiter.ADMITTED, limiter.tryAcquire(150));
+        assertEquals(RateLimiter.ADMITTED, limiter.tryAcquire(160));
+        assertEquals(40, limiter.tryAcquire(160));
+    }
+
+    @Test
+    void tokenBucket_ShouldAllowABurstOfCapacityAndRefillOneTokenPerInterval() {
+        // Given
+        RateLimiter limiter = new TokenBucketRateLimiter(4, 100, 0);
+
+        // When / Then
+        for (int i = 0; i < 4; i++) {
+            assertEquals(RateLimiter.ADMITTED, limiter.tryAcquire(0));
+        }
+        assertEquals(25, limiter.tryAcquire(0));
+        assertEquals(RateLimiter.ADMITTED, limiter.tryAcquire(25));
+        assertEquals(25, limiter.tryAcquire(25));
+
+        // An idle bucket fills up to its capacity, not beyond
+        for (int i = 0; i < 4; i++) {
+            assertEquals(RateLimiter.ADMITTED, limiter.tryAcquire(10_000));
+        }
+        assertEquals(25, limiter.tryAcquire(10_000));
+    }
+
+    @Test
+    void none_ShouldAdmitEveryRequest() {
+        // Given
+        RateLimiter limiter = RateLimitAlgorithm.NONE.create(1, Duration.ofSeconds(1), 0);
+
+        // When / Then
+        for (int i = 0; i < 1_000; i++) {
+            assertEquals(RateLimiter.ADMITTED, limiter.tryAcquire(0));
+        }
+    }
+
+    @Test
+    void tryAcquire_ShouldNeverOverAdmit_UnderConcurrentRequests() throws Exception {
+        for (RateLimitAlgorithm algorithm : RateLimitAlgorithm.values()) {
+            if (algorithm == RateLimitAlgorithm.NONE) {
+                continue;
+            }
+
+            // Given
+            RateLimiter limiter = algorithm.create(100, Duration.ofMinutes(1), 0);
+
+            // When
+            int admitted = countAdmitted(limiter, Duration.ofSeconds(1).toNanos());
+
+            // Then
+            assertEquals(100, admitted, algorithm.name());
+        }
+    }
+
+    /*
+     * Every thread tries the same instant, so only the limit can decide how many are admitted.
+     */
+    private static int countAdmitted(RateLimiter limiter, long nowNanos) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    int admitted = 0;
+                    for (int i = 0; i < ATTEMPTS_PER_THREAD; i++) {
+                        if (limiter.tryAcquire(nowNanos) == RateLimiter.ADMITTED) {
+                            admitted++;
+                        }
+                    }
+                    return admitted;
+                }));
+            }
+            start.countDown();
+            int admitted = 0;
+            for (Future<Integer> future : futures) {
+                admitted += future.get(30, TimeUnit.SECONDS);
+            }
+            return admitted;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}